@@ -0,0 +1,146 @@
+package jeopardy_game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles question banks into the binary format described by BinaryBankFormat.
+ * Any bank that one of the loaders can read can be compiled; the result is loaded
+ * with BinaryLoader without any text parsing.
+ *
+ * Usage from the command line:
+ * BankCompiler &lt;input bank&gt; &lt;output.jqb&gt;
+ */
+public class BankCompiler {
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private int stringDataLength;
+
+    /**
+     * Compiles a bank file into a binary bank, choosing the loader from the file extension.
+     *
+     * @param args the input bank and the output file
+     * @throws IOException if the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BankCompiler <input bank> <output" + BinaryBankFormat.EXTENSION + ">");
+            System.exit(1);
+        }
+
+        GameData data = GameLoaderFactory.forFile(args[0]).createLoader().load(args[0]);
+        new BankCompiler().compile(data, Path.of(args[1]));
+        System.out.println("Compiled " + args[0] + " to " + args[1]);
+    }
+
+    /**
+     * Writes the given game data as a binary bank. Equal strings are stored once.
+     *
+     * @param data the categories and questions to compile
+     * @param output the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void compile(GameData data, Path output) throws IOException {
+        strings.clear();
+        stringIds.clear();
+        stringDataLength = 0;
+
+        List<Category> categories = data.getCategories();
+        int questionCount = 0;
+        for (Category category : categories) {
+            intern(category.getName());
+            for (Question question : category.getQuestions()) {
+                intern(question.getQuestionStr());
+                Map<String, String> options = question.getOptions();
+                for (String key : BinaryBankFormat.OPTION_KEYS) {
+                    intern(options == null ? null : options.get(key));
+                }
+                intern(question.getCorrectAnswer());
+                questionCount++;
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(output), 1 << 16))) {
+            out.writeInt(BinaryBankFormat.MAGIC);
+            out.writeInt(BinaryBankFormat.VERSION);
+            out.writeInt(strings.size());
+            out.writeInt(categories.size());
+            out.writeInt(questionCount);
+            out.writeInt(stringDataLength);
+
+            int offset = 0;
+            out.writeInt(offset);
+            for (String s : strings) {
+                offset += utf8Length(s);
+                out.writeInt(offset);
+            }
+            for (String s : strings) {
+                out.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+            for (int i = stringDataLength; i < BinaryBankFormat.pad(stringDataLength); i++) {
+                out.writeByte(0);
+            }
+
+            int first = 0;
+            for (Category category : categories) {
+                out.writeInt(id(category.getName()));
+                out.writeInt(first);
+                out.writeInt(category.getQuestions().size());
+                first += category.getQuestions().size();
+            }
+
+            for (Category category : categories) {
+                for (Question question : category.getQuestions()) {
+                    out.writeInt(id(question.getQuestionStr()));
+                    out.writeInt(question.getPoints());
+                    Map<String, String> options = question.getOptions();
+                    for (String key : BinaryBankFormat.OPTION_KEYS) {
+                        out.writeInt(id(options == null ? null : options.get(key)));
+                    }
+                    out.writeInt(id(question.getCorrectAnswer()));
+                }
+            }
+        }
+    }
+
+    private void intern(String s) {
+        if (s != null && !stringIds.containsKey(s)) {
+            stringIds.put(s, strings.size());
+            strings.add(s);
+            stringDataLength += utf8Length(s);
+        }
+    }
+
+    private int id(String s) {
+        return s == null ? BinaryBankFormat.NO_STRING : stringIds.get(s);
+    }
+
+    private static int utf8Length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++; // unpaired surrogates are encoded as '?'
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,135 @@
+package jeopardy_game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The differences between two versions of a question bank.
+ *
+ * Questions are matched by category name and point value, which is how players
+ * pick them. A question present in both versions counts as changed when its text,
+ * options or correct answer differ. Questions are identified in the lists as
+ * "Category:points", in the order of the bank they come from; when a category has
+ * several questions with the same value, the second is "Category:points#2", the
+ * third "Category:points#3" and so on. The versions also differ when the questions
+ * they share are in a different order, since the board shows them in bank order.
+ */
+public class BankDiff {
+    private final List<String> added;
+    private final List<String> removed;
+    private final List<String> changed;
+    private final int unchanged;
+    private final boolean reordered;
+
+    private BankDiff(List<String> added, List<String> removed, List<String> changed, int unchanged,
+            boolean reordered) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+        this.unchanged = unchanged;
+        this.reordered = reordered;
+    }
+
+    /**
+     * Compares two versions of a bank.
+     *
+     * @param before the old version, or null if there was none
+     * @param after the new version
+     * @return the differences between the versions
+     */
+    public static BankDiff compare(GameData before, GameData after) {
+        Map<String, Question> old = index(before);
+        Map<String, Question> current = index(after);
+
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<String, Question> entry : current.entrySet()) {
+            Question previous = old.get(entry.getKey());
+            if (previous == null) {
+                added.add(entry.getKey());
+            } else if (sameContent(previous, entry.getValue())) {
+                unchanged++;
+            } else {
+                changed.add(entry.getKey());
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        List<String> oldOrder = new ArrayList<>();
+        for (String key : old.keySet()) {
+            if (current.containsKey(key)) {
+                oldOrder.add(key);
+            } else {
+                removed.add(key);
+            }
+        }
+
+        List<String> currentOrder = new ArrayList<>(current.keySet());
+        currentOrder.retainAll(old.keySet());
+        boolean reordered = !oldOrder.equals(currentOrder);
+
+        return new BankDiff(added, removed, changed, unchanged, reordered);
+    }
+
+    /**
+     * Maps the key of every question to the question, in bank order.
+     */
+    private static Map<String, Question> index(GameData data) {
+        Map<String, Question> questions = new LinkedHashMap<>();
+        if (data == null || data.getCategories() == null) {
+            return questions;
+        }
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (Category category : data.getCategories()) {
+            for (Question question : category.getQuestions()) {
+                String key = category.getName() + ":" + question.getPoints();
+                int occurrence = occurrences.merge(key, 1, Integer::sum);
+                questions.put(occurrence == 1 ? key : key + "#" + occurrence, question);
+            }
+        }
+        return questions;
+    }
+
+    private static boolean sameContent(Question a, Question b) {
+        return Objects.equals(a.getQuestionStr(), b.getQuestionStr())
+                && Objects.equals(a.getOptions(), b.getOptions())
+                && Objects.equals(a.getCorrectAnswer(), b.getCorrectAnswer());
+    }
+
+    /** Returns the questions only in the new version. */
+    public List<String> getAdded() { return added; }
+    /** Returns the questions only in the old version. */
+    public List<String> getRemoved() { return removed; }
+    /** Returns the questions in both versions whose content differs. */
+    public List<String> getChanged() { return changed; }
+    /** Returns the number of questions that are the same in both versions. */
+    public int getUnchangedCount() { return unchanged; }
+    /** Returns whether the questions in both versions are in a different order. */
+    public boolean isReordered() { return reordered; }
+
+    /**
+     * Returns whether the two versions have the same questions.
+     *
+     * @return true if nothing was added, removed, changed or reordered
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !reordered;
+    }
+
+    /**
+     * Returns a one-line summary, for example for logging.
+     *
+     * @return the diff as text
+     */
+    @Override
+    public String toString() {
+        return "BankDiff[added=" + added + ", removed=" + removed + ", changed=" + changed
+                + ", unchanged=" + unchanged + ", reordered=" + reordered + "]";
+    }
+}
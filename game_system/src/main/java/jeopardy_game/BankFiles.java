@@ -0,0 +1,109 @@
+package jeopardy_game;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Helper methods for locating question bank files.
+ * Banks are looked up on the classpath first, as the loaders have always done,
+ * and then on the filesystem, so loaders that need a real file (for example to
+ * memory-map it) can work with both packaged and external banks.
+ *
+ * Banks whose name ends in ".gz" are gzip-compressed and are decompressed while
+ * they are read by open(). Loaders that map the file instead need an uncompressed bank.
+ */
+public final class BankFiles {
+    /** Suffix of gzip-compressed banks. */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    /** Size of the read buffers used by open(), large enough to keep the number of reads low. */
+    static final int BUFFER_BYTES = 1 << 18;
+
+    private BankFiles() {
+    }
+
+    /**
+     * Resolves a bank name to a file on disk.
+     *
+     * @param filename a classpath resource name or a filesystem path
+     * @return the path of the bank file
+     * @throws FileNotFoundException if the bank is neither a file-backed resource nor an existing file
+     */
+    public static Path resolve(String filename) throws FileNotFoundException {
+        URL url = BankFiles.class.getClassLoader().getResource(filename);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return Path.of(url.toURI());
+            } catch (URISyntaxException e) {
+                // fall through to the filesystem lookup
+            }
+        }
+
+        Path path = Path.of(filename);
+        if (Files.isRegularFile(path)) {
+            return path;
+        }
+
+        throw new FileNotFoundException("Resource not found: " + filename);
+    }
+
+    /**
+     * Opens a bank for reading. Files on the filesystem are read through a FileChannel,
+     * and compressed banks are decompressed on the fly; either way the stream is buffered.
+     *
+     * @param filename a classpath resource name or a filesystem path
+     * @return a stream of the bank's uncompressed bytes, which the caller must close
+     * @throws FileNotFoundException if the bank is neither a resource nor an existing file
+     * @throws IOException if the file cannot be opened or is not valid gzip data
+     */
+    public static InputStream open(String filename) throws IOException {
+        InputStream inputStream = BankFiles.class.getClassLoader().getResourceAsStream(filename);
+        if (inputStream == null) {
+            Path path = Path.of(filename);
+            if (!Files.isRegularFile(path)) {
+                throw new FileNotFoundException("Resource not found: " + filename);
+            }
+            inputStream = Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+        }
+
+        try {
+            if (isCompressed(filename)) {
+                inputStream = new GZIPInputStream(inputStream, BUFFER_BYTES);
+            }
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        return new BufferedInputStream(inputStream, BUFFER_BYTES);
+    }
+
+    /**
+     * Returns whether a bank name refers to a gzip-compressed bank.
+     *
+     * @param filename the bank name
+     * @return true if the name ends in ".gz"
+     */
+    public static boolean isCompressed(String filename) {
+        return filename.endsWith(GZIP_SUFFIX);
+    }
+
+    /**
+     * Returns a bank name without its compression suffix, for choosing a loader by format.
+     *
+     * @param filename the bank name
+     * @return the name without a trailing ".gz"
+     */
+    public static String uncompressedName(String filename) {
+        return isCompressed(filename) ? filename.substring(0, filename.length() - GZIP_SUFFIX.length()) : filename;
+    }
+}
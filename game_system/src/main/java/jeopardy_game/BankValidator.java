@@ -0,0 +1,468 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Checks every record of a question bank and reports all problems found, with the
+ * line and record number of each, instead of stopping at the first one the way the
+ * loaders do.
+ *
+ * A record is reported when it has too few fields, when its point value is not a
+ * whole number, when one of the options A to D is missing or empty, when its correct
+ * answer is not one of the letters A to D, or when an earlier record has the same
+ * category and point value. GameData.getQuestion would only ever find the first of
+ * such duplicates.
+ *
+ * CSV banks are scanned in chunks that start on record boundaries, found the same
+ * way as in ParallelCSVLoader, and the chunks are checked in parallel on a
+ * ForkJoinPool. The chunk results are merged in file order, so the report is the
+ * same as that of a sequential check. Compressed CSV banks are decompressed into
+ * memory first. JSON and XML banks are checked in one streaming pass; a syntax error
+ * ends the check and is reported as a malformed record.
+ */
+public class BankValidator {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final XMLInputFactory XML_FACTORY = createXMLFactory();
+
+    private final ForkJoinPool pool;
+    private final int minChunkBytes;
+
+    /**
+     * Constructs a validator that checks CSV chunks on the common ForkJoinPool.
+     */
+    public BankValidator() {
+        this(ForkJoinPool.commonPool(), ParallelCSVLoader.DEFAULT_MIN_CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a validator that checks CSV chunks on the given pool.
+     *
+     * @param pool the pool to run chunk checks on
+     * @param minChunkBytes the smallest chunk worth handing to another thread
+     */
+    public BankValidator(ForkJoinPool pool, int minChunkBytes) {
+        if (minChunkBytes < 1) {
+            throw new IllegalArgumentException("minChunkBytes must be positive");
+        }
+        this.pool = pool;
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    /**
+     * Validates the specified bank. The format is chosen by the file extension.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @return a report of every issue found
+     * @throws IllegalArgumentException if the bank is not a CSV, JSON or XML file
+     * @throws RuntimeException if the bank cannot be read
+     */
+    public ValidationReport validate(String filename) {
+        String name = BankFiles.uncompressedName(filename);
+        if (!name.endsWith("csv") && !name.endsWith("json") && !name.endsWith("xml")) {
+            throw new IllegalArgumentException("Unknown format");
+        }
+
+        try {
+            if (name.endsWith("csv")) {
+                return validateCSV(filename);
+            }
+
+            Checks checks = new Checks(filename);
+            try (InputStream inputStream = BankFiles.open(filename)) {
+                if (name.endsWith("json")) {
+                    checkJSON(inputStream, checks);
+                } else {
+                    checkXML(inputStream, checks);
+                }
+            }
+            return merge(filename, List.of(checks), 0);
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error validating question bank: " + filename, e);
+        }
+    }
+
+    private ValidationReport validateCSV(String filename) throws Exception {
+        ByteBuffer buffer;
+        if (BankFiles.isCompressed(filename)) {
+            try (InputStream inputStream = BankFiles.open(filename)) {
+                buffer = ByteBuffer.wrap(inputStream.readAllBytes());
+            }
+        } else {
+            buffer = MappedCSVLoader.map(BankFiles.resolve(filename));
+        }
+
+        int end = buffer.limit();
+        int start = new CSVByteScanner(buffer).skipRecord(0, end);
+        int firstLine = 1 + countLines(buffer, 0, start);
+
+        int[] bounds = ParallelCSVLoader.chunkBounds(pool, minChunkBytes, buffer, start, end);
+        if (bounds.length == 2) {
+            return merge(filename, List.of(checkCSV(filename, buffer, start, end)), firstLine);
+        }
+
+        List<Callable<Checks>> tasks = new ArrayList<>();
+        for (int i = 0; i < bounds.length - 1; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            tasks.add(() -> checkCSV(filename, buffer.duplicate(), from, to));
+        }
+
+        List<Checks> chunks = new ArrayList<>();
+        for (Future<Checks> chunk : pool.invokeAll(tasks)) {
+            chunks.add(chunk.get());
+        }
+        return merge(filename, chunks, firstLine);
+    }
+
+    /**
+     * Checks the CSV records between two offsets. Lines are counted from 0 at the
+     * first offset and records from 1.
+     */
+    private static Checks checkCSV(String filename, ByteBuffer buffer, int pos, int end) {
+        CSVByteScanner scanner = new CSVByteScanner(buffer);
+        Checks checks = new Checks(filename);
+
+        while (pos < end) {
+            int recordStart = pos;
+            pos = scanner.readRecord(pos, end);
+            int line = checks.lines;
+            checks.lines += countLines(buffer, recordStart, pos);
+
+            if (scanner.isBlankRecord()) {
+                continue;
+            }
+            int record = ++checks.records;
+
+            if (scanner.getFieldCount() < CSVByteScanner.FIELD_COUNT) {
+                checks.issue(line, record, ValidationIssue.Kind.MALFORMED_RECORD, "Record has "
+                        + scanner.getFieldCount() + " fields, expected " + CSVByteScanner.FIELD_COUNT);
+                continue;
+            }
+
+            int points = 0;
+            boolean numeric = true;
+            try {
+                points = scanner.intField(1);
+            } catch (NumberFormatException e) {
+                numeric = false;
+                checks.nonNumericValue(line, record, scanner.stringField(1));
+            }
+
+            for (int option = 0; option < 4; option++) {
+                if (scanner.isEmptyField(3 + option)) {
+                    checks.missingOption(line, record, option);
+                }
+            }
+
+            int answer = scanner.letterField(7);
+            if (answer < 0 || answer > 3) {
+                checks.invalidAnswer(line, record, scanner.stringField(7));
+            }
+
+            if (numeric) {
+                checks.points(scanner.categoryName(), points, line, record);
+            }
+        }
+        return checks;
+    }
+
+    private static int countLines(ByteBuffer buffer, int from, int to) {
+        int lines = 0;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Checks a JSON array of question objects, using the parser's line numbers.
+     */
+    private static void checkJSON(InputStream inputStream, Checks checks) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a JSON array of questions");
+                }
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, token == null
+                                ? "Unexpected end of the JSON array of questions"
+                                : "Expected a question object but found " + token);
+                    }
+                    checkJSONItem(parser, checks);
+                }
+            } catch (JsonProcessingException e) {
+                int line = e.getLocation() != null ? e.getLocation().getLineNr() : 0;
+                checks.issue(line, ++checks.records, ValidationIssue.Kind.MALFORMED_RECORD, e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static void checkJSONItem(JsonParser parser, Checks checks) throws IOException {
+        int line = parser.currentTokenLocation().getLineNr();
+        int record = checks.records + 1;
+        String category = null;
+        String value = null;
+        String[] options = new String[4];
+        String correctAnswer = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "Category":
+                    category = parser.getText();
+                    break;
+                case "Value":
+                    value = parser.getText();
+                    break;
+                case "Options":
+                    if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            int option = Question.optionIndex(parser.currentName());
+                            parser.nextToken();
+                            if (option >= 0 && option < 4) {
+                                options[option] = parser.getText();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "CorrectAnswer":
+                    correctAnswer = parser.getText();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        checks.records = record;
+        checks.record(line, record, category, value, options, correctAnswer);
+    }
+
+    /**
+     * Checks the QuestionItem elements of an XML bank, using the reader's line numbers.
+     */
+    private static void checkXML(InputStream inputStream, Checks checks) throws XMLStreamException {
+        XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && reader.getLocalName().equals("QuestionItem")) {
+                    checkXMLItem(reader, checks);
+                }
+            }
+        } catch (XMLStreamException e) {
+            int line = e.getLocation() != null ? e.getLocation().getLineNumber() : 0;
+            checks.issue(line, ++checks.records, ValidationIssue.Kind.MALFORMED_RECORD, e.getMessage());
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void checkXMLItem(XMLStreamReader reader, Checks checks) throws XMLStreamException {
+        int line = reader.getLocation().getLineNumber();
+        int record = checks.records + 1;
+        String category = null;
+        String value = null;
+        String[] options = new String[4];
+        String correctAnswer = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("QuestionItem")) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String element = reader.getLocalName();
+            switch (element) {
+                case "Category":
+                    category = reader.getElementText();
+                    break;
+                case "Value":
+                    value = reader.getElementText();
+                    break;
+                case "CorrectAnswer":
+                    correctAnswer = reader.getElementText();
+                    break;
+                case "OptionA":
+                case "OptionB":
+                case "OptionC":
+                case "OptionD":
+                    options[element.charAt(6) - 'A'] = reader.getElementText();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        checks.records = record;
+        checks.record(line, record, category, value, options, correctAnswer);
+    }
+
+    /**
+     * Combines the results of consecutive chunks into one report.
+     *
+     * @param firstLine the line number of the first line of the first chunk, or 0 if
+     *                  the chunks hold absolute line numbers
+     */
+    private static ValidationReport merge(String filename, List<Checks> chunks, int firstLine) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        Map<Key, Integer> firstLines = new HashMap<>();
+        int lineBase = firstLine;
+        int recordBase = 0;
+
+        for (Checks chunk : chunks) {
+            for (Map.Entry<Key, int[]> first : chunk.firstSeen.entrySet()) {
+                int line = lineBase + first.getValue()[0];
+                Integer earlier = firstLines.putIfAbsent(first.getKey(), line);
+                if (earlier != null) {
+                    issues.add(duplicate(filename, first.getKey(), line, recordBase + first.getValue()[1], earlier));
+                }
+            }
+            for (Duplicate duplicate : chunk.duplicates) {
+                issues.add(duplicate(filename, duplicate.key(), lineBase + duplicate.line(),
+                        recordBase + duplicate.record(), firstLines.get(duplicate.key())));
+            }
+            for (ValidationIssue issue : chunk.issues) {
+                issues.add(issue.shift(lineBase, recordBase));
+            }
+
+            lineBase += chunk.lines;
+            recordBase += chunk.records;
+        }
+
+        issues.sort(Comparator.comparingInt(ValidationIssue::getRecord).thenComparing(ValidationIssue::getKind));
+        return new ValidationReport(filename, recordBase, issues);
+    }
+
+    private static ValidationIssue duplicate(String filename, Key key, int line, int record, int firstLine) {
+        return new ValidationIssue(filename, line, record, ValidationIssue.Kind.DUPLICATE_QUESTION,
+                "Duplicate question for " + key.category() + " at " + key.points()
+                        + " points, first defined on line " + firstLine);
+    }
+
+    private static XMLInputFactory createXMLFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private record Key(String category, int points) {
+    }
+
+    private record Duplicate(Key key, int line, int record) {
+    }
+
+    /**
+     * The issues found in one chunk of a bank, with line and record numbers relative
+     * to the chunk. Duplicates within the chunk are kept apart, since their messages
+     * name the line of the first occurrence, which is only known once chunks are merged.
+     */
+    private static final class Checks {
+        final String filename;
+        final List<ValidationIssue> issues = new ArrayList<>();
+        final Map<Key, int[]> firstSeen = new HashMap<>();
+        final List<Duplicate> duplicates = new ArrayList<>();
+        int lines;
+        int records;
+
+        Checks(String filename) {
+            this.filename = filename;
+        }
+
+        void issue(int line, int record, ValidationIssue.Kind kind, String message) {
+            issues.add(new ValidationIssue(filename, line, record, kind, message));
+        }
+
+        void nonNumericValue(int line, int record, String value) {
+            issue(line, record, ValidationIssue.Kind.NON_NUMERIC_VALUE,
+                    value == null ? "Value is missing" : "Value \"" + value + "\" is not a number");
+        }
+
+        void missingOption(int line, int record, int option) {
+            issue(line, record, ValidationIssue.Kind.MISSING_OPTION, "Option " + (char) ('A' + option) + " is missing");
+        }
+
+        void invalidAnswer(int line, int record, String answer) {
+            issue(line, record, ValidationIssue.Kind.INVALID_ANSWER,
+                    "Correct answer \"" + answer + "\" is not one of A, B, C or D");
+        }
+
+        void points(String category, int points, int line, int record) {
+            Key key = new Key(category, points);
+            if (firstSeen.putIfAbsent(key, new int[] {line, record}) != null) {
+                duplicates.add(new Duplicate(key, line, record));
+            }
+        }
+
+        /**
+         * Checks a record whose fields have been read as text, as for JSON and XML banks.
+         */
+        void record(int line, int record, String category, String value, String[] options, String correctAnswer) {
+            boolean numeric = false;
+            int points = 0;
+            if (value != null) {
+                try {
+                    points = Integer.parseInt(value.trim());
+                    numeric = true;
+                } catch (NumberFormatException e) {
+                    // reported below
+                }
+            }
+            if (!numeric) {
+                nonNumericValue(line, record, value);
+            }
+
+            for (int option = 0; option < options.length; option++) {
+                if (options[option] == null || options[option].isBlank()) {
+                    missingOption(line, record, option);
+                }
+            }
+
+            int answer = correctAnswer == null ? -1 : Question.optionIndex(correctAnswer.trim());
+            if (answer < 0 || answer > 3) {
+                invalidAnswer(line, record, correctAnswer);
+            }
+
+            if (numeric) {
+                points(category, points, line, record);
+            }
+        }
+    }
+}
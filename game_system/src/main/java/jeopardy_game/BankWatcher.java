@@ -0,0 +1,275 @@
+package jeopardy_game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps loaded question banks up to date while the application runs.
+ *
+ * Each watched bank is held as an immutable GameData snapshot. A background thread
+ * uses a WatchService to notice when a bank file is written or replaced. Once the
+ * file has not been touched for SETTLE_MILLIS, it re-parses that file only and
+ * compares the result with the current snapshot using BankDiff. If
+ * anything differs, the new snapshot replaces the old one in a single atomic step
+ * and listeners are told what changed. A file that fails to parse leaves the old
+ * snapshot in place until the next change.
+ *
+ * As a GameLoaderFactory, the watcher hands out the current snapshot of a bank and
+ * starts watching it on first use. Games load their data when they are set up and
+ * keep that GameData, so games in progress carry on with their snapshot while games
+ * set up after a change get the new version.
+ *
+ * Banks must be files on disk. All methods are thread-safe; listeners are called on
+ * the watcher thread.
+ */
+public class BankWatcher implements GameLoaderFactory, Closeable {
+    /** How long a changed file must stay untouched before it is reloaded. */
+    static final long SETTLE_MILLIS = 200;
+
+    /**
+     * Receives the banks that the watcher has reloaded.
+     */
+    public interface Listener {
+        /**
+         * Called after a changed bank has been swapped in.
+         *
+         * @param file the path of the bank
+         * @param data the new snapshot
+         * @param diff the differences from the previous snapshot
+         */
+        void bankReloaded(Path file, GameData data, BankDiff diff);
+    }
+
+    private final GameLoaderFactory factory;
+    private final WatchService watchService;
+    private final Map<Path, AtomicReference<GameData>> banks = new ConcurrentHashMap<>();
+    private final Set<Path> watched = ConcurrentHashMap.newKeySet();
+    private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread thread;
+
+    /**
+     * Constructs a watcher that picks a loader for each bank by its file extension.
+     *
+     * @throws IOException if the file system cannot be watched
+     */
+    public BankWatcher() throws IOException {
+        this(null);
+    }
+
+    /**
+     * Constructs a watcher that loads every bank with loaders from the given factory.
+     *
+     * @param factory the factory to load banks with, or null to choose one per file
+     * @throws IOException if the file system cannot be watched
+     */
+    public BankWatcher(GameLoaderFactory factory) throws IOException {
+        this.factory = factory;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::watchLoop, "bank-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Creates a loader that returns the current snapshot of a bank, loading and
+     * watching the bank the first time it is asked for.
+     *
+     * @return a GameLoader backed by this watcher
+     */
+    @Override
+    public GameLoader createLoader() {
+        return this::watch;
+    }
+
+    /**
+     * Starts watching a bank, loading it if it is not watched yet.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @return the current snapshot of the bank
+     * @throws RuntimeException if the bank cannot be found, loaded or watched
+     */
+    public GameData watch(String filename) {
+        Path file;
+        try {
+            file = BankFiles.resolve(filename).toAbsolutePath().normalize();
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading game data from file: " + filename, e);
+        }
+
+        AtomicReference<GameData> bank = banks.get(file);
+        if (bank != null) {
+            return bank.get();
+        }
+
+        // watch before loading, so that an edit made during the first load is reloaded
+        directories.computeIfAbsent(file.getParent(), this::register);
+        watched.add(file);
+        GameData data;
+        try {
+            data = load(file);
+        } catch (RuntimeException e) {
+            if (!banks.containsKey(file)) {
+                watched.remove(file);
+            }
+            throw e;
+        }
+        AtomicReference<GameData> loaded = banks.putIfAbsent(file, new AtomicReference<>(data));
+        return loaded != null ? loaded.get() : data;
+    }
+
+    /**
+     * Returns the current snapshot of a watched bank.
+     *
+     * @param file the path of the bank
+     * @return the snapshot, or null if the bank is not watched
+     */
+    public GameData current(Path file) {
+        AtomicReference<GameData> bank = banks.get(file.toAbsolutePath().normalize());
+        return bank == null ? null : bank.get();
+    }
+
+    /**
+     * Adds a listener that is told about every bank that is reloaded.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Re-parses a watched bank and swaps in the new snapshot if its questions changed.
+     *
+     * @param file the normalized absolute path of the bank
+     * @return the differences if a new snapshot was swapped in, otherwise null
+     */
+    BankDiff reload(Path file) {
+        AtomicReference<GameData> bank = banks.get(file);
+        if (bank == null) {
+            return null;
+        }
+
+        synchronized (bank) {
+            return reload(file, bank);
+        }
+    }
+
+    private BankDiff reload(Path file, AtomicReference<GameData> bank) {
+        GameData data;
+        try {
+            data = load(file);
+        } catch (RuntimeException e) {
+            System.err.println("Error reloading question bank, keeping the previous version: "
+                    + file + " (" + e.getMessage() + ")");
+            return null;
+        }
+
+        BankDiff diff = BankDiff.compare(bank.get(), data);
+        if (diff.isEmpty()) {
+            return null;
+        }
+        bank.set(data);
+
+        for (Listener listener : listeners) {
+            listener.bankReloaded(file, data, diff);
+        }
+        return diff;
+    }
+
+    private GameData load(Path file) {
+        GameLoaderFactory loaderFactory = factory != null ? factory : GameLoaderFactory.forFile(file.toString());
+        return loaderFactory.createLoader().load(file.toString());
+    }
+
+    private WatchKey register(Path directory) {
+        try {
+            return directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new RuntimeException("Error watching question bank directory: " + directory, e);
+        }
+    }
+
+    /**
+     * Collects the banks named by file events and reloads them once no event has
+     * arrived for SETTLE_MILLIS, so a file is not parsed while it is still being written.
+     * A bank whose first load has not finished yet stays pending until it has.
+     */
+    private void watchLoop() {
+        Set<Path> pending = new LinkedHashSet<>();
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    for (Iterator<Path> files = pending.iterator(); files.hasNext(); ) {
+                        Path file = files.next();
+                        if (banks.containsKey(file)) {
+                            reload(file);
+                            files.remove();
+                        } else if (!watched.contains(file)) {
+                            files.remove();
+                        }
+                    }
+                    continue;
+                }
+
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        for (Path file : watched) {
+                            if (file.getParent().equals(directory)) {
+                                pending.add(file);
+                            }
+                        }
+                    } else {
+                        Path file = directory.resolve((Path) event.context());
+                        if (watched.contains(file)) {
+                            pending.add(file);
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // the watcher has been closed
+        }
+    }
+
+    /**
+     * Stops watching. The snapshots already handed out remain usable.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
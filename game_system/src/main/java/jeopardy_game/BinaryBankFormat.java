@@ -0,0 +1,119 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the compiled binary question bank format (".jqb").
+ *
+ * All integers are big-endian and every section starts on a 4-byte boundary:
+ *
+ * Header (24 bytes): magic "JQB1", version, string count, category count,
+ * question count and the length in bytes of the string data.
+ *
+ * String table: (string count + 1) int offsets into the string data, followed
+ * by the UTF-8 bytes of all distinct strings, padded to a multiple of 4.
+ * String i occupies bytes [offset[i], offset[i + 1]). Strings are referenced
+ * by their index; NO_STRING stands for a missing value.
+ *
+ * Category index: one 12-byte entry per category holding the name's string id,
+ * the index of its first question and its number of questions. A category's
+ * questions are stored contiguously, in order.
+ *
+ * Question records: one 28-byte record per question holding the question text id,
+ * the point value, the string ids of options A to D and the correct answer id.
+ */
+public final class BinaryBankFormat {
+    /** The magic number at the start of every bank, "JQB1" in ASCII. */
+    public static final int MAGIC = 0x4A514231;
+    /** The version of the format written by BankCompiler. */
+    public static final int VERSION = 1;
+    /** The file extension of compiled banks. */
+    public static final String EXTENSION = ".jqb";
+    /** The string id that stands for a missing value. */
+    public static final int NO_STRING = -1;
+
+    /** Size of the header in bytes. */
+    public static final int HEADER_BYTES = 24;
+    /** Size of a category index entry in bytes. */
+    public static final int CATEGORY_BYTES = 12;
+    /** Size of a question record in bytes. */
+    public static final int QUESTION_BYTES = 28;
+    /** Option letters in the order in which they are stored in a question record. */
+    static final String[] OPTION_KEYS = {"A", "B", "C", "D"};
+
+    private final int stringCount;
+    private final int categoryCount;
+    private final int questionCount;
+    private final int offsetsStart;
+    private final int stringDataStart;
+    private final int categoriesStart;
+    private final int questionsStart;
+
+    /**
+     * Reads and checks the header of a compiled bank.
+     *
+     * @param buffer the bytes of the bank
+     * @throws IOException if the buffer does not hold a bank of a supported version
+     */
+    public BinaryBankFormat(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled question bank");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported question bank version: " + buffer.getInt(4));
+        }
+
+        this.stringCount = buffer.getInt(8);
+        this.categoryCount = buffer.getInt(12);
+        this.questionCount = buffer.getInt(16);
+        int stringDataLength = buffer.getInt(20);
+
+        this.offsetsStart = HEADER_BYTES;
+        this.stringDataStart = offsetsStart + 4 * (stringCount + 1);
+        this.categoriesStart = stringDataStart + pad(stringDataLength);
+        this.questionsStart = categoriesStart + CATEGORY_BYTES * categoryCount;
+
+        long expected = (long) questionsStart + (long) QUESTION_BYTES * questionCount;
+        if (stringCount < 0 || categoryCount < 0 || questionCount < 0 || expected != buffer.limit()) {
+            throw new IOException("Corrupt question bank: expected " + expected + " bytes, found " + buffer.limit());
+        }
+    }
+
+    /** Returns the number of distinct strings in the bank. */
+    public int getStringCount() { return stringCount; }
+    /** Returns the number of categories in the bank. */
+    public int getCategoryCount() { return categoryCount; }
+    /** Returns the number of questions in the bank. */
+    public int getQuestionCount() { return questionCount; }
+
+    /** Returns the offset of the start of string i's bytes. */
+    public int stringOffset(ByteBuffer buffer, int i) {
+        return stringDataStart + buffer.getInt(offsetsStart + 4 * i);
+    }
+
+    /** Returns the length in bytes of string i. */
+    public int stringLength(ByteBuffer buffer, int i) {
+        return buffer.getInt(offsetsStart + 4 * (i + 1)) - buffer.getInt(offsetsStart + 4 * i);
+    }
+
+    /** Returns the offset of the index entry of category c. */
+    public int categoryOffset(int c) {
+        return categoriesStart + CATEGORY_BYTES * c;
+    }
+
+    /** Returns the offset of the record of question q. */
+    public int questionOffset(int q) {
+        return questionsStart + QUESTION_BYTES * q;
+    }
+
+    /**
+     * Rounds a length up to the next multiple of 4.
+     *
+     * @param length a length in bytes
+     * @return the padded length
+     */
+    static int pad(int length) {
+        return (length + 3) & ~3;
+    }
+}
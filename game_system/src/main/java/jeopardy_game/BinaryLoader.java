@@ -0,0 +1,81 @@
+package jeopardy_game;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads game data from a bank compiled by BankCompiler.
+ * The file is memory-mapped; its string table is decoded once and the fixed-width
+ * category and question records are read straight into Category and Question objects.
+ */
+public class BinaryLoader implements GameLoader {
+
+    /**
+     * Loads game data from the specified compiled bank.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @return a GameData object containing all categories and questions
+     * @throws RuntimeException if the file cannot be read or is not a valid bank
+     */
+    @Override
+    public GameData load(String filename) {
+        List<Category> categories;
+
+        try {
+            ByteBuffer buffer = MappedCSVLoader.map(BankFiles.resolve(filename));
+            BinaryBankFormat format = new BinaryBankFormat(buffer);
+            String[] strings = readStrings(buffer, format);
+
+            categories = new ArrayList<>(format.getCategoryCount());
+            for (int c = 0; c < format.getCategoryCount(); c++) {
+                int entry = format.categoryOffset(c);
+                Category category = new Category(string(strings, buffer.getInt(entry)));
+                int first = buffer.getInt(entry + 4);
+                int count = buffer.getInt(entry + 8);
+
+                for (int q = first; q < first + count; q++) {
+                    category.addQuestion(readQuestion(buffer, format.questionOffset(q), strings));
+                }
+                categories.add(category);
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from binary file: " + filename, e);
+        }
+
+        return new GameData(categories);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, BinaryBankFormat format) {
+        String[] strings = new String[format.getStringCount()];
+        byte[] bytes = new byte[256];
+
+        for (int i = 0; i < strings.length; i++) {
+            int length = format.stringLength(buffer, i);
+            if (bytes.length < length) {
+                bytes = new byte[length];
+            }
+            buffer.get(format.stringOffset(buffer, i), bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static Question readQuestion(ByteBuffer buffer, int record, String[] strings) {
+        return Question.of(
+                string(strings, buffer.getInt(record)),
+                buffer.getInt(record + 4),
+                string(strings, buffer.getInt(record + 8)),
+                string(strings, buffer.getInt(record + 12)),
+                string(strings, buffer.getInt(record + 16)),
+                string(strings, buffer.getInt(record + 20)),
+                string(strings, buffer.getInt(record + 24)));
+    }
+
+    private static String string(String[] strings, int id) {
+        return id == BinaryBankFormat.NO_STRING ? null : strings[id];
+    }
+}
@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating BinaryLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * loaders for question banks compiled by BankCompiler.
+ */
+public class BinaryLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new BinaryLoader instance.
+     * @return a BinaryLoader for loading game data from compiled banks
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new BinaryLoader();
+    }
+}
@@ -0,0 +1,191 @@
+package jeopardy_game;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Builds a single board from a bank without loading the whole bank.
+ *
+ * The bank is streamed once from start to end. Each run of consecutive questions of
+ * one category is a candidate category; within a run, one question per point value is
+ * kept by reservoir sampling, so every question with that value is equally likely to be
+ * picked. Runs that have a question for every point value are then reservoir-sampled
+ * into the board, so every complete category is equally likely to be on it. Only the
+ * board being built and the current run are held, so memory does not grow with the
+ * size of the bank.
+ *
+ * Banks are expected to list the questions of a category together, as all the bundled
+ * banks do. A category split over several places in the bank is treated as several
+ * candidates, of which at most one ends up on the board. Questions whose point value
+ * is not on the board are ignored. If the bank has fewer complete categories than
+ * requested, the board has all of them.
+ *
+ * The categories on the board keep their bank order and their questions are ordered
+ * by point value as given.
+ */
+public class BoardSampler implements GameLoader {
+    /** Number of categories on a standard board. */
+    public static final int DEFAULT_CATEGORIES = 6;
+
+    private static final int[] DEFAULT_POINT_VALUES = {100, 200, 300, 400, 500};
+
+    private final StreamingGameLoader source;
+    private final int categories;
+    private final int[] pointValues;
+    private final Random random;
+
+    /**
+     * Constructs a sampler for a standard board of six categories with the point values
+     * 100 to 500, reading each bank with the streaming loader for its file extension.
+     */
+    public BoardSampler() {
+        this(null, DEFAULT_CATEGORIES, DEFAULT_POINT_VALUES, new Random());
+    }
+
+    /**
+     * Constructs a sampler for a board of the given shape.
+     *
+     * @param source the loader to stream banks with, or null to choose one per file
+     * @param categories the number of categories on the board
+     * @param pointValues the point values each category must have, in board order
+     * @param random the source of randomness, for example seeded for a repeatable board
+     * @throws IllegalArgumentException if the board would be empty or a point value is repeated
+     */
+    public BoardSampler(StreamingGameLoader source, int categories, int[] pointValues, Random random) {
+        if (categories < 1) {
+            throw new IllegalArgumentException("categories must be positive");
+        }
+        if (pointValues.length == 0 || Arrays.stream(pointValues).distinct().count() != pointValues.length) {
+            throw new IllegalArgumentException("pointValues must be distinct and not empty");
+        }
+        this.source = source;
+        this.categories = categories;
+        this.pointValues = pointValues.clone();
+        this.random = random;
+    }
+
+    /**
+     * Samples a board from the specified bank in a single pass.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @return a GameData object holding only the sampled categories and questions
+     * @throws RuntimeException if the bank cannot be read or parsed
+     * @throws IllegalArgumentException if no streaming loader reads the bank's format
+     */
+    @Override
+    public GameData load(String filename) {
+        StreamingGameLoader loader = source != null ? source : StreamingGameLoader.forFile(filename);
+        Sample sample = new Sample();
+        loader.stream(filename, sample);
+        return sample.build();
+    }
+
+    /**
+     * A candidate category: one run of questions of the same category in the bank.
+     */
+    private static final class Run {
+        final String name;
+        final long order;
+        final Question[] picks;
+        final int[] seen;
+
+        Run(String name, long order, int values) {
+            this.name = name;
+            this.order = order;
+            this.picks = new Question[values];
+            this.seen = new int[values];
+        }
+
+        boolean isComplete() {
+            for (Question pick : picks) {
+                if (pick == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Receives the streamed questions of one load and keeps the board sampled so far.
+     */
+    private final class Sample implements QuestionSink {
+        private final Run[] board = new Run[categories];
+        private int filled;
+        private long complete;
+        private long runs;
+        private Run run;
+
+        @Override
+        public void addQuestion(String categoryName, Question question) {
+            if (run == null || !run.name.equals(categoryName)) {
+                endRun();
+                run = new Run(categoryName, runs++, pointValues.length);
+            }
+
+            int slot = slotOf(question.getPoints());
+            if (slot < 0) {
+                return;
+            }
+            // keeps each of the n questions seen with this value with probability 1/n
+            if (random.nextInt(++run.seen[slot]) == 0) {
+                run.picks[slot] = question;
+            }
+        }
+
+        private int slotOf(int points) {
+            for (int i = 0; i < pointValues.length; i++) {
+                if (pointValues[i] == points) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Offers the finished run to the board, keeping each of the complete runs seen
+         * so far with probability categories / complete.
+         */
+        private void endRun() {
+            if (run == null || !run.isComplete() || isOnBoard(run.name)) {
+                return;
+            }
+
+            complete++;
+            if (filled < board.length) {
+                board[filled++] = run;
+            } else {
+                long slot = random.nextLong(complete);
+                if (slot < board.length) {
+                    board[(int) slot] = run;
+                }
+            }
+        }
+
+        private boolean isOnBoard(String name) {
+            for (int i = 0; i < filled; i++) {
+                if (board[i].name.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        GameData build() {
+            endRun();
+            run = null;
+
+            Run[] picked = Arrays.copyOf(board, filled);
+            Arrays.sort(picked, Comparator.comparingLong(r -> r.order));
+
+            GameDataBuilder builder = new GameDataBuilder();
+            for (Run category : picked) {
+                for (Question question : category.picks) {
+                    builder.addQuestion(category.name, question);
+                }
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating BoardSampler instances.
+ * This class implements GameLoaderFactory and produces loaders that
+ * sample one standard board from a bank instead of loading all of it.
+ */
+public class BoardSamplerFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new BoardSampler instance.
+     * @return a BoardSampler for sampling a board from a question bank
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new BoardSampler();
+    }
+}
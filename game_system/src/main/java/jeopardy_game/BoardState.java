@@ -0,0 +1,115 @@
+package jeopardy_game;
+
+import java.util.BitSet;
+
+/**
+ * Tracks which questions of a shared GameData have been answered in one game.
+ * Each game board owns its own BoardState, which needs one bit per question plus
+ * one counter per category, while the question text and options stay in the
+ * shared GameData.
+ *
+ * Alongside the bitset the state keeps the number of unanswered questions per
+ * category and on the whole board, updated as questions are answered, so checking
+ * whether a category or the board is finished takes constant time.
+ *
+ * A BoardState belongs to a single game and is not thread-safe.
+ */
+public class BoardState {
+    private final GameData gameData;
+    private final BitSet answered;
+    private final int[] remainingByCategory;
+    private int remaining;
+
+    /**
+     * Constructs a state in which no question has been answered.
+     *
+     * @param gameData the game data whose questions are tracked
+     */
+    public BoardState(GameData gameData) {
+        this.gameData = gameData;
+        this.answered = new BitSet(gameData.getQuestionCount());
+        this.remaining = gameData.getQuestionCount();
+
+        int categories = gameData.getCategories() == null ? 0 : gameData.getCategories().size();
+        this.remainingByCategory = new int[categories];
+        for (int c = 0; c < categories; c++) {
+            remainingByCategory[c] = gameData.getCategorySize(c);
+        }
+    }
+
+    /**
+     * Returns whether the given question has been answered in this game.
+     *
+     * @param question the question to check
+     * @return true if answered; false otherwise, including for questions not on the board
+     */
+    public boolean isAnswered(Question question) {
+        int index = gameData.indexOf(question);
+        return index >= 0 && answered.get(index);
+    }
+
+    /**
+     * Marks the given question as answered in this game.
+     * Questions that are not part of the game data, or already answered, are ignored.
+     *
+     * @param question the question to mark
+     */
+    public void markAnswered(Question question) {
+        int index = gameData.indexOf(question);
+        if (index >= 0 && !answered.get(index)) {
+            answered.set(index);
+            remainingByCategory[gameData.getCategoryIndex(index)]--;
+            remaining--;
+        }
+    }
+
+    /**
+     * Returns whether the given category still has unanswered questions.
+     *
+     * @param category the category to check
+     * @return true if at least one question in the category is unanswered
+     */
+    public boolean hasUnanswered(Category category) {
+        return getRemaining(category) > 0;
+    }
+
+    /**
+     * Returns the number of unanswered questions in the given category.
+     * For categories that are not part of the game data the questions are counted one by one.
+     *
+     * @param category the category to check
+     * @return the number of unanswered questions
+     */
+    public int getRemaining(Category category) {
+        int index = gameData.indexOf(category);
+        if (index >= 0) {
+            return remainingByCategory[index];
+        }
+
+        int count = 0;
+        for (Question question : category.getQuestions()) {
+            if (!isAnswered(question)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of unanswered questions on the whole board.
+     *
+     * @return the number of unanswered questions
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * Returns whether every question in the game data has been answered.
+     *
+     * @return true if all questions are answered, false otherwise
+     */
+    public boolean allAnswered() {
+        return remaining == 0;
+    }
+}
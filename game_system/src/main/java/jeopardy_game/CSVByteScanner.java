@@ -0,0 +1,353 @@
+package jeopardy_game;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses question bank records directly from the bytes of a CSV file.
+ *
+ * The scanner looks for delimiters, quotes and line breaks in the buffer itself and
+ * only decodes the fields that end up as Question state. Point values are parsed
+ * straight from the bytes and consecutive rows of the same category reuse the
+ * previous row's category name without decoding it again.
+ *
+ * Fields follow RFC 4180: they may be quoted, quoted fields may contain commas and
+ * line breaks, and a doubled quote inside a quoted field stands for one quote.
+ * Every field is trimmed, as CSVLoader does. Blank lines are skipped.
+ *
+ * A scanner keeps per-record state and must not be shared between threads; create
+ * one per thread over a duplicate of the buffer instead.
+ */
+public class CSVByteScanner {
+    /** Number of columns in a question bank record. */
+    public static final int FIELD_COUNT = 8;
+
+    private final ByteBuffer buffer;
+    private final int[] fieldStart = new int[FIELD_COUNT];
+    private final int[] fieldEnd = new int[FIELD_COUNT];
+    private final boolean[] fieldQuoted = new boolean[FIELD_COUNT];
+    private int fieldCount;
+    private byte[] scratch = new byte[256];
+
+    private Category lastCategory;
+    private String lastCategoryName;
+    private byte[] lastCategoryBytes = new byte[64];
+    private int lastCategoryLength = -1;
+
+    /**
+     * Constructs a scanner over the given buffer. Only absolute reads are used,
+     * so the buffer's position and limit are never changed.
+     *
+     * @param buffer the bytes of the CSV file
+     */
+    public CSVByteScanner(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Skips a single record, for example the header row.
+     *
+     * @param pos the offset at which the record starts
+     * @param end the offset at which scanning must stop
+     * @return the offset of the next record
+     */
+    public int skipRecord(int pos, int end) {
+        return scanRecord(pos, end);
+    }
+
+    /**
+     * Parses every record between two offsets and passes the resulting questions to a sink,
+     * such as a GameDataBuilder. The start offset must be the beginning of a record.
+     *
+     * @param pos the offset of the first record
+     * @param end the offset just past the last record
+     * @param sink the sink that receives the questions
+     * @return the number of questions parsed
+     * @throws IllegalArgumentException if a record has too few fields or a non-numeric value
+     */
+    public int parseRecords(int pos, int end, QuestionSink sink) {
+        int count = 0;
+        lastCategoryLength = -1;
+
+        while (pos < end) {
+            int recordStart = pos;
+            pos = scanRecord(pos, end);
+
+            if (isBlankRecord()) {
+                continue;
+            }
+            if (fieldCount < FIELD_COUNT) {
+                throw new IllegalArgumentException("Record at byte " + recordStart + " has "
+                        + fieldCount + " fields, expected " + FIELD_COUNT);
+            }
+
+            String categoryName = categoryName();
+            int value = intField(1);
+
+            sink.addQuestion(categoryName, sink.question(stringField(2), value,
+                    stringField(3), stringField(4), stringField(5), stringField(6), stringField(7)));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the record starting at the given offset, so that its fields can be decoded
+     * with stringField and intField. Unlike parseRecords, this does not check the record.
+     *
+     * @param pos the offset at which the record starts
+     * @param end the offset at which scanning must stop
+     * @return the offset of the next record
+     */
+    public int readRecord(int pos, int end) {
+        return scanRecord(pos, end);
+    }
+
+    /**
+     * Returns the number of fields in the current record.
+     *
+     * @return the field count, which may exceed FIELD_COUNT
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Finds the field boundaries of the record starting at the given offset.
+     *
+     * @return the offset just past the record's line break
+     */
+    private int scanRecord(int pos, int end) {
+        fieldCount = 0;
+        int start = pos;
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        while (pos < end) {
+            byte b = buffer.get(pos);
+
+            if (inQuotes) {
+                if (b == '"') {
+                    if (pos + 1 < end && buffer.get(pos + 1) == '"') {
+                        pos += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                pos++;
+            } else if (b == '"') {
+                inQuotes = true;
+                quoted = true;
+                pos++;
+            } else if (b == ',') {
+                endField(start, pos, quoted);
+                start = ++pos;
+                quoted = false;
+            } else if (b == '\n') {
+                endField(start, pos, quoted);
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+
+        endField(start, end, quoted);
+        return end;
+    }
+
+    private void endField(int start, int end, boolean quoted) {
+        if (fieldCount < FIELD_COUNT) {
+            fieldStart[fieldCount] = start;
+            fieldEnd[fieldCount] = end;
+            fieldQuoted[fieldCount] = quoted;
+        }
+        fieldCount++;
+    }
+
+    /**
+     * Returns whether the current record is an empty or whitespace-only line.
+     *
+     * @return true if the record is blank
+     */
+    public boolean isBlankRecord() {
+        if (fieldCount != 1) {
+            return false;
+        }
+        for (int i = fieldStart[0]; i < fieldEnd[0]; i++) {
+            if ((buffer.get(i) & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Category for the current record, reusing the previous record's
+     * category when the raw name bytes are identical.
+     *
+     * @param builder the builder that holds the categories
+     * @return the Category named in the first field
+     */
+    public Category category(GameDataBuilder builder) {
+        String categoryName = categoryName();
+        if (lastCategory == null) {
+            lastCategory = builder.category(categoryName);
+        }
+        return lastCategory;
+    }
+
+    /**
+     * Returns the category name of the current record, reusing the previous record's
+     * String when the raw name bytes are identical.
+     *
+     * @return the trimmed text of the first field
+     */
+    public String categoryName() {
+        int length = loadField(0);
+
+        if (length == lastCategoryLength) {
+            boolean same = true;
+            for (int i = 0; i < length; i++) {
+                if (scratch[i] != lastCategoryBytes[i]) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return lastCategoryName;
+            }
+        }
+
+        if (lastCategoryBytes.length < length) {
+            lastCategoryBytes = new byte[length];
+        }
+        System.arraycopy(scratch, 0, lastCategoryBytes, 0, length);
+        lastCategoryLength = length;
+        lastCategoryName = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        lastCategory = null;
+        return lastCategoryName;
+    }
+
+    /**
+     * Decodes a field of the current record as a trimmed string.
+     *
+     * @param index the column index of the field
+     * @return the field text
+     */
+    public String stringField(int index) {
+        int length = loadField(index);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns whether a field of the current record is empty after trimming.
+     *
+     * @param index the column index of the field
+     * @return true if the field has no text
+     */
+    public boolean isEmptyField(int index) {
+        return loadField(index) == 0;
+    }
+
+    /**
+     * Reads a field of the current record as an option letter without decoding it to a String.
+     *
+     * @param index the column index of the field
+     * @return the option index of the letter, as Question.optionIndex returns it, or -1
+     *         if the field is not a single letter
+     */
+    public int letterField(int index) {
+        int length = loadField(index);
+        return length == 1 ? Question.optionIndex((char) scratch[0]) : -1;
+    }
+
+    /**
+     * Parses a field of the current record as a decimal integer without decoding it to a String.
+     *
+     * @param index the column index of the field
+     * @return the field value
+     * @throws NumberFormatException if the field is not a valid integer
+     */
+    public int intField(int index) {
+        int length = loadField(index);
+        int i = 0;
+        boolean negative = false;
+
+        if (length > 0 && (scratch[0] == '-' || scratch[0] == '+')) {
+            negative = scratch[0] == '-';
+            i++;
+        }
+        if (i == length || length - i > 9) {
+            return Integer.parseInt(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        }
+
+        int value = 0;
+        for (; i < length; i++) {
+            int digit = scratch[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \""
+                        + new String(scratch, 0, length, StandardCharsets.UTF_8) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Copies the trimmed, unquoted bytes of a field into the scratch array.
+     *
+     * @return the number of bytes copied
+     */
+    private int loadField(int index) {
+        int start = fieldStart[index];
+        int end = fieldEnd[index];
+
+        if (!fieldQuoted[index]) {
+            while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+                start++;
+            }
+            while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+                end--;
+            }
+            int length = end - start;
+            ensureScratch(length);
+            buffer.get(start, scratch, 0, length);
+            return length;
+        }
+
+        ensureScratch(end - start);
+        int length = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                if (inQuotes && i + 1 < end && buffer.get(i + 1) == '"') {
+                    scratch[length++] = '"';
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else {
+                scratch[length++] = b;
+            }
+        }
+
+        int from = 0;
+        while (from < length && (scratch[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (length > from && (scratch[length - 1] & 0xFF) <= ' ') {
+            length--;
+        }
+        if (from > 0) {
+            System.arraycopy(scratch, from, scratch, 0, length - from);
+        }
+        return length - from;
+    }
+
+    private void ensureScratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+    }
+}
@@ -1,42 +1,62 @@
 package jeopardy_game;
 
-import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 import com.opencsv.CSVReader;
 
 /**
  * Loads game data from a CSV file and converts it into Category and Question objects.
- * This class reads CSV files packaged within the application's resources.
+ * This class reads CSV files packaged within the application's resources,
+ * or from the filesystem when no such resource exists.
  */
-public class CSVLoader implements GameLoader {
-    
+public class CSVLoader implements StreamingGameLoader {
+    private final StringDictionary dictionary;
+
+    /**
+     * Constructs a loader that uses a fresh StringDictionary for every load.
+     */
+    public CSVLoader() {
+        this(null);
+    }
+
+    /**
+     * Constructs a loader that interns repeated strings through the given dictionary,
+     * so callers can read its statistics or share it between loads.
+     *
+     * @param dictionary the dictionary to use, or null for a fresh one per load
+     */
+    public CSVLoader(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
     /**
      * Loads game data from the specified CSV file.
      * The CSV must follow the structure:
      * Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer
      *
-     * @param filename the name of the CSV resource file to load
+     * @param filename the name of the CSV resource or the path of the CSV file to load
      * @return a GameData object containing all categories and questions
      * @throws RuntimeException if the file cannot be read or parsed
      */
     @Override
     public GameData load(String filename) {
-        List<Category> categories = new ArrayList<>();
-        Map<String, Category> categoryMap = new HashMap<>();
-            
-        try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filename);
-            if (inputStream == null) {
-                throw new FileNotFoundException("Resource not found: " + filename);
-            }
+        GameDataBuilder builder = new GameDataBuilder(dictionary != null ? dictionary : new StringDictionary());
+        stream(filename, builder);
+        return builder.build();
+    }
 
-            CSVReader reader = new CSVReader(new InputStreamReader(inputStream));
+    /**
+     * Reads the specified CSV file row by row and passes every question to the sink.
+     *
+     * @param filename the name of the CSV resource or the path of the CSV file to read
+     * @param sink the sink that receives the questions
+     * @throws RuntimeException if the file cannot be read or parsed
+     */
+    @Override
+    public void stream(String filename, QuestionSink sink) {
+        try (InputStream inputStream = BankFiles.open(filename);
+             CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
             String[] row;
             reader.readNext();
             
@@ -49,31 +69,14 @@ public class CSVLoader implements GameLoader {
                 String optionC = row[5].trim();
                 String optionD = row[6].trim();
                 String correctAnswer = row[7].trim();
-    
-                Category category = categoryMap.get(categoryName);
-                if (category == null) {
-                    category = new Category(categoryName);
-                    categoryMap.put(categoryName, category);
-                    categories.add(category);
-                }
 
-                Map<String, String> optionsMap = new HashMap<>();
-                optionsMap.put("A", optionA);
-                optionsMap.put("B", optionB);
-                optionsMap.put("C", optionC);
-                optionsMap.put("D", optionD);
-    
-                Question question = new Question(questionStr, value, optionsMap, correctAnswer);
-                category.addQuestion(question);   
+                Question question = sink.question(questionStr, value, optionA, optionB, optionC, optionD, correctAnswer);
+                sink.addQuestion(categoryName, question);
             }
-
-            reader.close();
         } 
         
         catch (Exception e) {
             throw new RuntimeException("Error loading game data from CSV file: " + filename, e);
         }
-        
-        return new GameData(categories);
     }
 }
@@ -0,0 +1,43 @@
+package jeopardy_game;
+
+/**
+ * Factory that puts a GameDataCache in front of another GameLoaderFactory.
+ * Loaders created by this factory return cached game data when the requested
+ * bank has not changed since it was last loaded, and only create a loader from
+ * the wrapped factory on a cache miss. By default the process-wide
+ * GameDataCache.shared() is used, so every caching factory in the process
+ * shares the banks that equivalent delegates have loaded.
+ */
+public class CachingGameLoaderFactory implements GameLoaderFactory {
+    private final GameLoaderFactory delegate;
+    private final GameDataCache cache;
+
+    /**
+     * Constructs a caching factory that uses the process-wide cache.
+     *
+     * @param delegate the factory used to load banks that are not cached
+     */
+    public CachingGameLoaderFactory(GameLoaderFactory delegate) {
+        this(delegate, GameDataCache.shared());
+    }
+
+    /**
+     * Constructs a caching factory that uses the given cache.
+     *
+     * @param delegate the factory used to load banks that are not cached
+     * @param cache the cache to consult
+     */
+    public CachingGameLoaderFactory(GameLoaderFactory delegate, GameDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates and returns a loader that consults the cache before loading.
+     * @return a caching GameLoader
+     */
+    @Override
+    public GameLoader createLoader() {
+        return filename -> cache.get(filename, delegate);
+    }
+}
@@ -1,11 +1,15 @@
 package jeopardy_game;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a category in the Jeopardy game, containing a name
  * and a list of questions belonging to this category.
+ * Questions are added only while a bank is loaded, by the loaders and
+ * GameDataBuilder in this package; afterwards the category is read-only,
+ * so one loaded bank can be shared by several games.
  */
 public class Category {
     private String name;
@@ -31,12 +35,12 @@ public class Category {
     }
 
     /**
-     * Returns the list of questions in this category.
+     * Returns the questions in this category.
      *
-     * @return the questions list
+     * @return a read-only view of the questions list
      */
     public List<Question> getQuestions() {
-        return questions;
+        return Collections.unmodifiableList(questions);
     }
 
     /**
@@ -44,7 +48,7 @@ public class Category {
      *
      * @param newQuestion the Question object to add
      */
-    public void addQuestion(Question newQuestion){
+    void addQuestion(Question newQuestion){
         this.questions.add(newQuestion); 
     }
 }
@@ -8,7 +8,7 @@ import java.util.List;
  * Handles:
  *  - Initialising the game
  *  - Selecting and loading the question file
- *  - Setting up players
+ *  - Setting up players while the file loads
  *  - Starting and ending the game session
  *  - Generating game report and event logs
  */
@@ -34,10 +34,10 @@ public class Client {
         
         //Factory selection
         GameLoaderFactory factory = input.selectFactory(selectedFile);
-        game.setLoaderFactory(factory);
-        game.loadGame(selectedFile);
+        game.setLoaderFactory(new CachingGameLoaderFactory(factory));
+        game.loadGameAsync(selectedFile);
 
-        //Player setup
+        //Player setup (the file keeps loading in the background)
         int numPlayers = input.getPlayerInput();
         game.setPlayerCount(numPlayers);
         for (int i = 1; i <= numPlayers; i++) {
@@ -0,0 +1,148 @@
+package jeopardy_game;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads every question bank in a directory, or every bank matching a glob, and merges
+ * them into a single GameData.
+ *
+ * The location is either a directory, whose files are loaded (not those of its
+ * subdirectories), or a path whose last part contains a glob such as
+ * "banks/*.csv" or "banks/**.json". Each file is loaded with the loader that
+ * GameLoaderFactory.forFile picks for its extension; files of unknown formats are
+ * skipped. The files are parsed concurrently on a fixed-size pool created for the
+ * load, then merged in the order of their paths, so the categories come out in the
+ * same order however the parsing was scheduled. Categories with the same name in
+ * different files are merged into one.
+ */
+public class CompositeLoader implements GameLoader {
+    private final int threads;
+
+    /**
+     * Constructs a loader that parses up to one bank per available processor at a time.
+     */
+    public CompositeLoader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a loader that parses up to the given number of banks at a time.
+     *
+     * @param threads the maximum number of threads used for one load
+     */
+    public CompositeLoader(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Loads and merges all banks at the given location.
+     *
+     * @param location a directory, or a path ending in a glob pattern
+     * @return a GameData object containing the categories and questions of all banks
+     * @throws RuntimeException if no bank is found or any bank cannot be read or parsed
+     */
+    @Override
+    public GameData load(String location) {
+        GameDataBuilder builder = new GameDataBuilder();
+
+        try {
+            List<Path> files = findBanks(location);
+            if (files.isEmpty()) {
+                throw new FileNotFoundException("No question banks found: " + location);
+            }
+
+            List<Callable<GameData>> tasks = new ArrayList<>();
+            for (Path file : files) {
+                GameLoader loader = GameLoaderFactory.forFile(file.toString()).createLoader();
+                tasks.add(() -> loader.load(file.toString()));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()));
+            try {
+                for (Future<GameData> bank : executor.invokeAll(tasks)) {
+                    builder.addAll(bank.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from bank directory: " + location, e);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Lists the bank files at a location, sorted by path.
+     *
+     * @param location a directory, or a path ending in a glob pattern
+     * @return the files of known formats
+     * @throws IOException if the directory cannot be read
+     */
+    static List<Path> findBanks(String location) throws IOException {
+        int glob = firstGlobChar(location);
+        if (glob < 0) {
+            Path dir = Path.of(location);
+            if (!Files.isDirectory(dir)) {
+                throw new FileNotFoundException("Not a directory: " + location);
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                return files.filter(CompositeLoader::isBank).sorted().collect(Collectors.toList());
+            }
+        }
+
+        int separator = Math.max(location.lastIndexOf('/', glob), location.lastIndexOf(File.separatorChar, glob));
+        Path dir = separator < 0 ? Path.of(".") : Path.of(location.substring(0, Math.max(separator, 1)));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + location.substring(separator + 1));
+        if (!Files.isDirectory(dir)) {
+            throw new FileNotFoundException("Not a directory: " + dir);
+        }
+
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> matcher.matches(dir.relativize(file)))
+                    .filter(CompositeLoader::isBank)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int firstGlobChar(String location) {
+        for (int i = 0; i < location.length(); i++) {
+            if ("*?[{".indexOf(location.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBank(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try {
+            GameLoaderFactory.forFile(file.toString());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating CompositeLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * loaders that merge a directory of banks into one game.
+ */
+public class CompositeLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new CompositeLoader instance.
+     * @return a CompositeLoader for loading game data from a directory of banks
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new CompositeLoader();
+    }
+}
@@ -0,0 +1,123 @@
+package jeopardy_game;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Prints a game session as text, by default to the console.
+ */
+public class ConsoleOutput implements GameOutput {
+    private final PrintStream out;
+
+    /**
+     * Constructs an output that prints to System.out.
+     */
+    public ConsoleOutput() {
+        this(System.out);
+    }
+
+    /**
+     * Constructs an output that prints to the given stream.
+     *
+     * @param out the stream to print to
+     */
+    public ConsoleOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void prompt(String prompt) {
+        out.print(prompt);
+    }
+
+    @Override
+    public void message(String message) {
+        out.println(message);
+    }
+
+    @Override
+    public void welcome() {
+        out.println("\n" +
+        "*******************************************\n" +
+        "*           WELCOME TO JEOPARDY!          *\n" +
+        "*******************************************\n");
+
+        out.println("Choosing a random player to start...");
+    }
+
+    @Override
+    public void firstPlayer(Player player) {
+        out.println("Player " + player.getName() + " goes first!\n");
+    }
+
+    @Override
+    public void board(GameBoard board) {
+        board.displayBoard(out);
+    }
+
+    @Override
+    public void turn(Player player) {
+        out.println("It's " + player.getName() + "'s turn!");
+    }
+
+    @Override
+    public void categoryChoices(GameBoard board) {
+        List<Category> categories = board.getGameData().getCategories();
+        for (int i = 0; i < categories.size(); i++) {
+            Category c = categories.get(i);
+            if (board.hasUnansweredQuestions(c)) {
+                out.println((i + 1) + ". " + c.getName());
+            }
+        }
+    }
+
+    @Override
+    public void questionChoices(GameBoard board, Category category) {
+        out.println("Select a question:");
+        List<Question> questions = category.getQuestions();
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            if (!board.isAnswered(q)) {
+                out.println((i + 1) + ". " + q.getPoints() + " points");
+            }
+        }
+    }
+
+    @Override
+    public void question(Question question) {
+        question.display(out);
+    }
+
+    @Override
+    public void invalidAnswer(Question question) {
+        out.println("Invalid input. Please choose one of the available options: "
+            + question.getOptions().keySet());
+    }
+
+    @Override
+    public void answerResult(Question question, boolean correct) {
+        if (correct) {
+            out.println(">> Correct!");
+        } else {
+            out.println(">> Wrong! Correct answer: " + question.getCorrectAnswer());
+        }
+    }
+
+    @Override
+    public void scores(List<Player> players) {
+        out.println("Current Scores:");
+        for (Player p : players) {
+            out.println(p.getName() + ": " + p.getScore() + " points");
+        }
+    }
+
+    @Override
+    public void gameOver(List<Player> players) {
+        out.println("\n" +
+        "*******************************************\n" +
+        "*                Game Over!               *\n" +
+        "*******************************************\n");
+        out.println("Thanks for Playing!");
+        scores(players);
+    }
+}
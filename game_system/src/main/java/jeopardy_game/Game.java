@@ -3,47 +3,89 @@ package jeopardy_game;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents the main Jeopardy game.
- * Implements a singleton pattern to ensure only one game instance exists.
+ * getGame returns a shared game for the console client, while newGame creates
+ * independent games, each with its own case ID, players, board, subscribers and
+ * Logger, so that one process can host many games (see GameEngine).
  * Handles game setup, player management, session management, observers, 
  * and report/log generation.
+ *
+ * Game data can be loaded in the background with loadGameAsync while the players
+ * are set up. A game is driven by one thread at a time: its methods, including the
+ * subscriber notifications, are called from the thread that drives the game.
+ * Subscribers may be added and removed from other threads.
  */
 public class Game {
+    /** Number of threads that run background loads. */
+    private static final int LOADER_THREADS = 2;
+
+    /**
+     * Runs background loads on a few daemon threads, so that many games loading at once do
+     * not start a thread each and a pending load never keeps the JVM alive. Idle threads
+     * end after a while.
+     */
+    private static final ExecutorService LOADER_EXECUTOR = newLoaderExecutor();
+
     private static Game gameInstance;
     private GameManager manager;
     private final String caseId;
+    private final Logger logger;
     private GameData gameData;
     private List<Subscriber> subscribers;
     private List<Player> players;
     private GameBoard board;
     private GameLoaderFactory loaderFactory;
+    private CompletableFuture<LoadedData> pendingLoad;
     private int currentPlayer;
 
     /**
-     * Private constructor for singleton pattern.
+     * Private constructor used by getGame and newGame.
      * Initializes subscriber and player lists and the GameManager.
+     * @param logger the game's own Logger, which is subscribed at once, or null
+     *               for the shared game, which reports through Logger.getLogger()
      */
-    private Game() {
+    private Game(Logger logger) {
         this.caseId = UUID.randomUUID().toString();
-        this.subscribers =  new ArrayList<>();
+        this.logger = logger;
+        this.subscribers =  new CopyOnWriteArrayList<>();
         this.players =  new ArrayList<>();
         this.gameData = null;
         this.manager = new GameManager(this);
+
+        if (logger != null) {
+            subscribe(logger);
+        }
     }
     
     /**
-     * Returns the single instance of the Game.
-     * @return the singleton Game instance
+     * Returns the shared instance of the Game, creating it on first use.
+     * @return the shared Game instance
      */
-    public static Game getGame() {
+    public static synchronized Game getGame() {
         if (gameInstance == null) {
-            gameInstance = new Game();
+            gameInstance = new Game(null);
         }
         return gameInstance;
     }
 
+    /**
+     * Creates a new game that shares no state with the shared game or with any other game.
+     * It has its own case ID and its own Logger, which is already subscribed.
+     * @return a new Game
+     */
+    public static Game newGame() {
+        return new Game(Logger.newLogger());
+    }
+
     //Setup Methods
 
     /**
@@ -75,6 +117,60 @@ public class Game {
      * @param filename the name of the game file to load
      */
     public void loadGame(String filename) {
+        notifyLoadStarted();
+        this.pendingLoad = null;
+
+        GameLoader loader = loaderFactory.createLoader();
+        GameData data = loader.load(filename);
+        finishLoad(data, java.time.Instant.now());
+    }
+
+    /**
+     * Starts loading the game data from a file on a background thread and returns at once.
+     * The board is set up when the load is first waited for, which start() and getBoard()
+     * do only if it has not finished yet. Subscribers are notified on the calling thread:
+     * before loading here, and after loading when the result is taken up. The event after
+     * loading carries the time the load finished, not the time it was taken up.
+     *
+     * @param filename the name of the game file to load
+     * @return a future that completes with the loaded game data, or with the loader's exception
+     */
+    public CompletableFuture<GameData> loadGameAsync(String filename) {
+        notifyLoadStarted();
+
+        GameLoader loader = loaderFactory.createLoader();
+        this.pendingLoad = CompletableFuture.supplyAsync(
+                () -> new LoadedData(loader.load(filename), java.time.Instant.now()), LOADER_EXECUTOR);
+        return this.pendingLoad.thenApply(LoadedData::data);
+    }
+
+    /**
+     * Waits for a load started by loadGameAsync, if there is one, and sets up the board.
+     * A failed load rethrows the exception thrown by the loader.
+     */
+    private void awaitLoad() {
+        CompletableFuture<LoadedData> load = this.pendingLoad;
+        if (load == null) {
+            return;
+        }
+        this.pendingLoad = null;
+
+        LoadedData loaded;
+        try {
+            loaded = load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        finishLoad(loaded.data(), loaded.loadedAt());
+    }
+
+    private void notifyLoadStarted() {
         notifySubscribers(
             new Event.Builder(
                 caseId,
@@ -84,9 +180,10 @@ public class Game {
             )
             .build()
         );
+    }
 
-        GameLoader loader = loaderFactory.createLoader();
-        this.gameData = loader.load(filename);
+    private void finishLoad(GameData data, java.time.Instant loadedAt) {
+        this.gameData = data;
         this.board = new GameBoard(this.gameData);
 
         notifySubscribers(
@@ -94,7 +191,7 @@ public class Game {
                 caseId,
                 "System",
                 "File Loaded Successfully", 
-                java.time.Instant.now().toString()
+                loadedAt.toString()
             )
             .build()
         );
@@ -125,6 +222,14 @@ public class Game {
         return this.caseId;
     }
 
+    /**
+     * Returns the Logger that collects this game's events for its report and event log.
+     * @return the game's own Logger, or the shared Logger for the shared game
+     */
+    public Logger getLogger() {
+        return logger != null ? logger : Logger.getLogger();
+    }
+
     //Observer methods
 
     /**
@@ -211,10 +316,11 @@ public class Game {
     }
 
     /**
-     * Returns the game board.
+     * Returns the game board, waiting for a background load to finish if necessary.
      * @return the GameBoard
      */
     public GameBoard getBoard() {
+        awaitLoad();
         return this.board;
     }
 
@@ -222,14 +328,41 @@ public class Game {
 
     /**
      * Starts the game session using GameManager.
+     * If the game data is still being loaded in the background, waits for it first.
      */
     public void start(InputHandler input) {
         if (players.isEmpty()) {
             throw new IllegalStateException("Cannot start game with no players");
         }
+        awaitLoad();
         manager.startSession(input);
     }
 
+    /**
+     * Sets where the game session shows the board, questions, results and scores.
+     * @param output the GameOutput to use
+     */
+    public void setOutput(GameOutput output) {
+        manager.setOutput(output);
+    }
+
+    /**
+     * Sets how the game session times its pauses.
+     * @param pacer the Pacer to use
+     */
+    public void setPacer(Pacer pacer) {
+        manager.setPacer(pacer);
+    }
+
+    /**
+     * Runs the game session headless: nothing is shown and there are no pauses.
+     * Use an InputHandler with GameOutput.NONE as well to silence its prompts.
+     */
+    public void setHeadless() {
+        setOutput(GameOutput.NONE);
+        setPacer(Pacer.NONE);
+    }
+
     /**
      * Ends the game session using GameManager.
      */
@@ -240,21 +373,19 @@ public class Game {
     //Output and Logging
 
     /**
-     * Displays the current scores of all players.
+     * Displays the current scores of all players on the game's output.
      */
     public void displayScores() {
-        System.out.println("Current Scores:");
-        for (Player p : players) {
-            System.out.println(p.getName() + ": " + p.getScore() + " points");
-        }
+        manager.getOutput().scores(players);
     }
 
     /**
      * Generates a gameplay report using the Report class and notifies subscribers.
      */
     public void generateReport() {
-        List<Event> events = Logger.getLogger().getEvents();
-        new Report().generate(this, events);
+        List<Event> events = getLogger().getEvents();
+        Report report = logger != null ? new Report("game_report_" + caseId + ".txt") : new Report();
+        report.generate(this, events);
         
         notifySubscribers(
             new Event.Builder(
@@ -281,6 +412,23 @@ public class Game {
             .build()
         );
         
-        Logger.getLogger().generateEventLogs();
+        getLogger().generateEventLogs();
+    }
+
+    private static ExecutorService newLoaderExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(LOADER_THREADS, LOADER_THREADS,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                    Thread thread = new Thread(task, "game-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Game data loaded in the background, with the time its load finished.
+     */
+    private record LoadedData(GameData data, java.time.Instant loadedAt) {
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,26 @@
 package jeopardy_game;
 
+import java.io.PrintStream;
+
 /**
  * Represents the game board in a Jeopardy game.
  * Holds the categories and questions, and provides methods
  * to display the board and access questions or categories.
+ * The game data may be shared with other boards; which questions have been
+ * answered on this board is kept in the board's own BoardState.
  */
 public class GameBoard {
     private final GameData gameData;
+    private final BoardState state;
 
     /**
-     * Constructs a GameBoard with the given game data.
+     * Constructs a GameBoard with the given game data and no questions answered.
      *
      * @param gameData the data containing categories and questions for this game
      */
     public GameBoard(GameData gameData) {
         this.gameData = gameData;
+        this.state = new BoardState(gameData);
     }
 
     /**
@@ -22,28 +28,37 @@ public class GameBoard {
      * Unanswered questions show their point value; answered questions are marked with "---".
      */
     public void displayBoard() {
-        System.out.println("Jeopardy Game Board:");
+        displayBoard(System.out);
+    }
+
+    /**
+     * Displays the current state of the game board on the given stream.
+     *
+     * @param out the stream to print to
+     */
+    public void displayBoard(PrintStream out) {
+        out.println("Jeopardy Game Board:");
     
         int colWidth = 25;
 
         try {
             for(Category category : gameData.getCategories()) {
-                System.out.printf("| %-"+colWidth+"s", category.getName());// Display category names
+                out.printf("| %-"+colWidth+"s", category.getName());// Display category names
 
                 for(Question question : category.getQuestions()) {
-                    if (!question.isAnswered()) {
-                        System.out.print("| " + question.getPoints() + " | "); // Display point value if not answered
+                    if (!state.isAnswered(question)) {
+                        out.print("| " + question.getPoints() + " | "); // Display point value if not answered
                     }   
                     else {
-                        System.out.print("| --- | ");
+                        out.print("| --- | ");
                     }                
                 }
-                System.out.println();
+                out.println();
             } 
         } catch (Exception e) {
             System.err.println("Error displaying game board: " + e.getMessage());
         }
-        System.out.println("\n");
+        out.println("\n");
     }
 
     /**
@@ -55,6 +70,15 @@ public class GameBoard {
         return this.gameData;
     } 
 
+    /**
+     * Returns the answered/unanswered state of this board.
+     *
+     * @return the BoardState object
+     */
+    public BoardState getState() {
+        return this.state;
+    }
+
     /**
      * Returns the Category object matching the given name.
      *
@@ -62,12 +86,7 @@ public class GameBoard {
      * @return the Category if found, otherwise null
      */
     public Category getCategory(String name) {
-        for (Category c : gameData.getCategories()) {
-            if (c.getName().equals(name)) {
-                return c;
-            }
-        }
-        return null;
+        return gameData.getCategory(name);
     }
 
     /**
@@ -90,23 +109,45 @@ public class GameBoard {
     public void markQuestion(Category category, int pointValue) {
         Question question = gameData.getQuestion(category, pointValue);
         if (question != null) {
-            question.setAnswered(true);
+            state.markAnswered(question);
         }
     }
 
+    /**
+     * Marks the given question as answered on this board.
+     *
+     * @param question the question to mark
+     */
+    public void markAnswered(Question question) {
+        state.markAnswered(question);
+    }
+
+    /**
+     * Returns whether the given question has been answered on this board.
+     *
+     * @param question the question to check
+     * @return true if answered; false otherwise
+     */
+    public boolean isAnswered(Question question) {
+        return state.isAnswered(question);
+    }
+
+    /**
+     * Returns whether the given category still has unanswered questions on this board.
+     *
+     * @param category the category to check
+     * @return true if at least one question in the category is unanswered
+     */
+    public boolean hasUnansweredQuestions(Category category) {
+        return state.hasUnanswered(category);
+    }
+
     /**
      * Checks if all questions on the board have been answered.
      *
      * @return true if all questions are answered, false otherwise
      */
     public boolean allQuestionsAnswered() { 
-        for (Category category : gameData.getCategories()) {
-            for (Question question : category.getQuestions()) {
-                if (!question.isAnswered()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return state.allAnswered();
     }
 }
\ No newline at end of file
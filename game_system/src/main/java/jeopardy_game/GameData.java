@@ -1,21 +1,112 @@
 package jeopardy_game;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Holds the categories and questions for a Jeopardy game.
  * Provides access to categories and allows retrieval of specific questions.
+ *
+ * Game data is a read-only catalogue: which questions have been answered is kept
+ * per game in a BoardState, so one GameData can be shared by any number of
+ * concurrent games. Categories and questions must not be modified once the
+ * GameData has been constructed.
  */
 public class GameData {
-    private List <Category> categories;
+    private final List<Category> categories;
+    private final Map<String, Category> categoriesByName;
+    private final Map<Category, Integer> categoryIndex;
+    private final Map<Question, Integer> questionIndex;
+    private final Question[] questions;
+    private final int[] categoryStarts;
+    private final int[] categorySizes;
+    private final int[] questionCategories;
+    private final int[] sortedPoints;
+    private final int[] sortedPositions;
+    private final int questionCount;
 
     /**
      * Constructs a GameData object with the provided list of categories.
+     * Lookup tables are built here, once: the questions are numbered through the
+     * categories in order, so a question's position is found in constant time, and
+     * each category's question positions are sorted by point value, so a question is
+     * found by its value with a binary search rather than through a map per category.
      *
      * @param categories the list of categories for this game
      */
     public GameData(List<Category> categories) {
-        this.categories = categories;
+        this.categories = categories == null ? null : Collections.unmodifiableList(categories);
+        this.categoriesByName = new HashMap<>();
+        this.categoryIndex = new IdentityHashMap<>();
+        this.questionIndex = new IdentityHashMap<>();
+
+        int categoryCount = categories == null ? 0 : categories.size();
+        int total = 0;
+        for (int c = 0; c < categoryCount; c++) {
+            total += categories.get(c).getQuestions().size();
+        }
+
+        // a question listed more than once keeps its first position only
+        Question[] numbered = new Question[total];
+        int[] numberedCategories = new int[total];
+        this.categorySizes = new int[categoryCount];
+        int count = 0;
+        for (int c = 0; c < categoryCount; c++) {
+            Category category = categories.get(c);
+            categoriesByName.putIfAbsent(category.getName(), category);
+            categoryIndex.putIfAbsent(category, c);
+            int index = categoryIndex.get(category);
+            for (Question question : category.getQuestions()) {
+                if (questionIndex.putIfAbsent(question, count) == null) {
+                    numbered[count] = question;
+                    numberedCategories[count++] = index;
+                    categorySizes[index]++;
+                }
+            }
+        }
+        this.questionCount = count;
+        this.questions = Arrays.copyOf(numbered, count);
+        this.questionCategories = Arrays.copyOf(numberedCategories, count);
+
+        // the questions of a category are numbered consecutively; an empty category starts where the next one does
+        this.categoryStarts = new int[categoryCount + 1];
+        categoryStarts[categoryCount] = count;
+        for (int i = count - 1; i >= 0; i--) {
+            categoryStarts[questionCategories[i]] = i;
+        }
+        for (int c = categoryCount - 1; c >= 0; c--) {
+            if (categorySizes[c] == 0) {
+                categoryStarts[c] = categoryStarts[c + 1];
+            }
+        }
+
+        this.sortedPoints = new int[count];
+        this.sortedPositions = new int[count];
+        long[] keys = new long[count];
+        for (int c = 0; c < categoryCount; c++) {
+            int from = categoryStarts[c];
+            int to = from + categorySizes[c];
+            for (int i = from; i < to; i++) {
+                keys[i] = ((long) questions[i].getPoints() << 32) | i;
+            }
+            Arrays.sort(keys, from, to);
+            for (int i = from; i < to; i++) {
+                sortedPoints[i] = (int) (keys[i] >> 32);
+                sortedPositions[i] = (int) keys[i];
+            }
+        }
+    }
+
+    /**
+     * Constructs an empty GameData, for subclasses that store their categories and
+     * questions elsewhere and override the accessors of this class.
+     */
+    protected GameData() {
+        this(Collections.emptyList());
     }
 
     /**
@@ -27,24 +118,104 @@ public class GameData {
         return categories;
     }
 
+    /**
+     * Returns the total number of questions across all categories.
+     *
+     * @return the number of questions
+     */
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Returns the position of a question within this game data, counting through the
+     * categories in order. Positions run from 0 to getQuestionCount() - 1.
+     *
+     * @param question the question to look up
+     * @return the question's position, or -1 if it is not part of this game data
+     */
+    public int indexOf(Question question) {
+        Integer index = questionIndex.get(question);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the position of a category in the list returned by getCategories().
+     *
+     * @param category the category to look up
+     * @return the category's position, or -1 if it is not part of this game data
+     */
+    public int indexOf(Category category) {
+        Integer index = categoryIndex.get(category);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the position of the category that the question at the given position belongs to.
+     *
+     * @param questionIndex a question position, as returned by indexOf(Question)
+     * @return the position of the question's category
+     */
+    public int getCategoryIndex(int questionIndex) {
+        return questionCategories[questionIndex];
+    }
+
+    /**
+     * Returns the number of questions in the category at the given position.
+     * A question that appears in more than one category is counted only in the first.
+     *
+     * @param categoryIndex a category position, as returned by indexOf(Category)
+     * @return the number of questions in the category
+     */
+    public int getCategorySize(int categoryIndex) {
+        return categorySizes[categoryIndex];
+    }
+
+    /**
+     * Returns the first category with the given name.
+     *
+     * @param name the name of the category
+     * @return the Category if found, otherwise null
+     */
+    public Category getCategory(String name) {
+        return categoriesByName.get(name);
+    }
+
     /**
      * Retrieves a question from the specified category with the given point value.
+     * If the category has several questions with that value, the first one is returned.
      *
      * @param category the Category object to search within
      * @param pointValue the point value of the desired question
      * @return the Question object if found, otherwise null
      */
     public Question getQuestion(Category category, int pointValue) {
-        for (Category cat : categories) {
-            if (cat.equals(category)) {
-                for (Question question : cat.getQuestions()) {
-                    if (question.getPoints() == pointValue) {
-                        return question;
-                    }
-                }
+        int c = indexOf(category);
+        if (c >= 0) {
+            int slot = firstWithPoints(c, pointValue);
+            if (slot < categoryStarts[c] + categorySizes[c] && sortedPoints[slot] == pointValue) {
+                return questions[sortedPositions[slot]];
             }
         }
         System.err.println("Question not found for category: " + category.getName() + " with point value: " + pointValue);
         return null;
     }
+
+    /**
+     * Returns the first slot of a category's sorted questions whose point value is at
+     * least the given one, or the end of the category's slots if there is none.
+     */
+    private int firstWithPoints(int categoryIndex, int pointValue) {
+        int low = categoryStarts[categoryIndex];
+        int high = low + categorySizes[categoryIndex];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPoints[mid] < pointValue) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 }
@@ -0,0 +1,156 @@
+package jeopardy_game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally assembles a GameData object from questions as they are parsed.
+ * Categories are kept in the order in which they are first seen and questions
+ * keep the order in which they are added, matching the behaviour of the loaders.
+ *
+ * Questions created through question() have their options and answer passed through
+ * the builder's StringDictionary, so repeated short values share one String in the result.
+ * As a QuestionSink, a builder can collect the questions streamed by any StreamingGameLoader.
+ */
+public class GameDataBuilder implements QuestionSink {
+    private final List<Category> categories = new ArrayList<>();
+    private final Map<String, Category> categoryMap = new HashMap<>();
+    private final StringDictionary dictionary;
+
+    /**
+     * Constructs a builder with a dictionary of its own.
+     */
+    public GameDataBuilder() {
+        this(new StringDictionary());
+    }
+
+    /**
+     * Constructs a builder that interns repeated strings through the given dictionary.
+     *
+     * @param dictionary the dictionary to use; it may be shared by several loads
+     */
+    public GameDataBuilder(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Returns the dictionary used to intern repeated strings.
+     *
+     * @return the builder's StringDictionary
+     */
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Creates a question with four options, sharing repeated option texts and answers.
+     * Answers that are a letter A to D are stored as an index and are not interned.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param optionA       the text of option A
+     * @param optionB       the text of option B
+     * @param optionC       the text of option C
+     * @param optionD       the text of option D
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    @Override
+    public Question question(String questionStr, int points, String optionA, String optionB,
+            String optionC, String optionD, String correctAnswer) {
+        int answer = Question.optionIndex(correctAnswer);
+        // a letter answer is stored as an index, so only other answers are worth sharing
+        String answerStr = answer >= 0 && answer < 4 ? correctAnswer : dictionary.intern(correctAnswer);
+        return Question.of(questionStr, points, dictionary.intern(optionA), dictionary.intern(optionB),
+                dictionary.intern(optionC), dictionary.intern(optionD), answerStr);
+    }
+
+    /**
+     * Creates a question from an options map, sharing repeated option texts and answers
+     * when the map holds the options A to D. Other maps are kept as given.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param options       a map of answer options, keyed by a letter
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    @Override
+    public Question question(String questionStr, int points, Map<String, String> options, String correctAnswer) {
+        if (options != null && options.size() == 4 && options.containsKey("A") && options.containsKey("B")
+                && options.containsKey("C") && options.containsKey("D")) {
+            return question(questionStr, points, options.get("A"), options.get("B"),
+                    options.get("C"), options.get("D"), correctAnswer);
+        }
+        return Question.of(questionStr, points, options, correctAnswer);
+    }
+
+    /**
+     * Adds a question to the named category, creating the category if it has not been seen yet.
+     *
+     * @param categoryName the name of the category the question belongs to
+     * @param question the Question object to add
+     */
+    @Override
+    public void addQuestion(String categoryName, Question question) {
+        category(categoryName).addQuestion(question);
+    }
+
+    /**
+     * Returns the category with the given name, creating and registering it if necessary.
+     *
+     * @param categoryName the name of the category
+     * @return the existing or newly created Category
+     */
+    public Category category(String categoryName) {
+        Category category = categoryMap.get(categoryName);
+        if (category == null) {
+            category = new Category(categoryName);
+            categoryMap.put(categoryName, category);
+            categories.add(category);
+        }
+        return category;
+    }
+
+    /**
+     * Appends everything collected by another builder after the questions already added here.
+     * Categories new to this builder are added in the other builder's order, so merging the
+     * builders of consecutive parts of a bank gives the same result as one builder reading it all.
+     *
+     * @param other the builder whose categories and questions to append
+     */
+    public void addAll(GameDataBuilder other) {
+        for (Category source : other.categories) {
+            Category target = category(source.getName());
+            for (Question question : source.getQuestions()) {
+                target.addQuestion(question);
+            }
+        }
+    }
+
+    /**
+     * Appends the categories and questions of already loaded game data, in the same way as
+     * addAll(GameDataBuilder). Categories with the same name are merged into one.
+     *
+     * @param data the game data to append
+     */
+    public void addAll(GameData data) {
+        for (Category source : data.getCategories()) {
+            Category target = category(source.getName());
+            for (Question question : source.getQuestions()) {
+                target.addQuestion(question);
+            }
+        }
+    }
+
+    /**
+     * Builds the GameData object from the categories collected so far.
+     *
+     * @return a GameData object containing all added categories and questions
+     */
+    public GameData build() {
+        return new GameData(categories);
+    }
+}
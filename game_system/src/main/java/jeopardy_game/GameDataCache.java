@@ -0,0 +1,271 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+/**
+ * A size-bounded, least-recently-used cache of loaded question banks.
+ *
+ * Entries are keyed by the bank name, the factory that loaded it, and a version
+ * of its content: the size and modification time for banks that are files, the
+ * number, newest modification time and total size of the banks for directory
+ * and glob locations, or the CRC-32 of resources packed in a jar. Editing a bank
+ * therefore causes a reload, while back-to-back games on an unchanged bank skip
+ * parsing entirely. Banks loaded in different ways, such as a sampled board and
+ * the full bank, never replace each other: factories of a class without instance
+ * fields, like CSVLoaderFactory, are compared by class, so every such factory
+ * shares the banks it loads whichever instance asked; any other factory, including
+ * a lambda, which may capture state, only shares with itself.
+ *
+ * Game data is read-only and answered questions are tracked per game board, so
+ * every caller with an equivalent factory receives the same cached GameData. All
+ * methods are thread-safe.
+ */
+public class GameDataCache {
+    /** Default number of banks kept by the shared cache. */
+    public static final int DEFAULT_MAX_ENTRIES = 8;
+
+    /** Number of times a bank that keeps changing while it is read is read before giving up caching it. */
+    static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private static final GameDataCache SHARED = new GameDataCache(DEFAULT_MAX_ENTRIES);
+
+    /** Whether instances of a factory class are interchangeable. */
+    private static final ClassValue<Boolean> STATELESS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type.isHidden() || type.isSynthetic() || type.isAnonymousClass() || type.isLocalClass()) {
+                return false;
+            }
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    };
+
+    private final int maxEntries;
+    private final Map<Key, GameData> entries;
+    private final Map<String, Long> resourceCrcs = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxEntries the maximum number of banks to keep
+     */
+    public GameDataCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GameData> eldest) {
+                if (size() > GameDataCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the process-wide cache.
+     *
+     * @return the shared GameDataCache instance
+     */
+    public static GameDataCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the game data for a bank, loading it with a loader from the given factory
+     * only if the current version of the bank is not cached. The version is checked
+     * again after a load; if the bank changed while it was being read, it is read
+     * again, and after MAX_LOAD_ATTEMPTS reads the last result is returned uncached.
+     *
+     * @param filename the name of the bank to load
+     * @param factory the factory used to create a loader on a cache miss
+     * @return the bank's game data
+     * @throws RuntimeException if the bank cannot be read or loaded
+     */
+    public GameData get(String filename, GameLoaderFactory factory) {
+        Object format = format(factory);
+        Key key = new Key(filename, version(filename), format);
+
+        GameData data;
+        synchronized (this) {
+            data = entries.get(key);
+            if (data != null) {
+                hits++;
+                return data;
+            }
+            misses++;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            data = factory.createLoader().load(filename);
+            String after = version(filename);
+            if (after.equals(key.version())) {
+                break;
+            }
+            // the bank changed while it was read, so the data may be neither version
+            key = new Key(filename, after, format);
+            if (attempt == MAX_LOAD_ATTEMPTS) {
+                return data;
+            }
+        }
+
+        synchronized (this) {
+            // another thread may have loaded the same version meanwhile; keep one copy
+            GameData loaded = entries.get(key);
+            if (loaded != null) {
+                return loaded;
+            }
+            entries.put(key, data);
+        }
+        return data;
+    }
+
+    /** Returns the number of lookups that were served from the cache. */
+    public synchronized long getHitCount() { return hits; }
+    /** Returns the number of lookups that had to load the bank. */
+    public synchronized long getMissCount() { return misses; }
+    /** Returns the number of banks evicted to stay within the size bound. */
+    public synchronized long getEvictionCount() { return evictions; }
+    /** Returns the number of banks currently cached. */
+    public synchronized int size() { return entries.size(); }
+
+    /**
+     * Removes every cached bank. The hit, miss and eviction counts are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a short summary of the cache metrics, for example for logging.
+     *
+     * @return the metrics as text
+     */
+    @Override
+    public synchronized String toString() {
+        long lookups = hits + misses;
+        return "GameDataCache[size=" + entries.size() + "/" + maxEntries
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                + ", hitRate=" + (lookups == 0 ? 0 : hits * 100 / lookups) + "%]";
+    }
+
+    /**
+     * Identifies the current content of a bank without parsing it.
+     *
+     * @param filename the name of the bank
+     * @return a version string that changes whenever the bank changes
+     * @throws RuntimeException if the bank cannot be found or read
+     */
+    private String version(String filename) {
+        try {
+            Path path = BankFiles.resolve(filename);
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            // not a file: a resource inside a jar, or a directory or glob of banks
+        }
+
+        URL url = getClass().getClassLoader().getResource(filename);
+        if (url != null) {
+            return resourceVersion(filename, url);
+        }
+
+        try {
+            List<Path> banks = CompositeLoader.findBanks(filename);
+            long newest = 0;
+            long size = 0;
+            for (Path bank : banks) {
+                BasicFileAttributes attributes = Files.readAttributes(bank, BasicFileAttributes.class);
+                newest = Math.max(newest, attributes.lastModifiedTime().toMillis());
+                size += attributes.size();
+            }
+            return "banks:" + banks.size() + ":" + banks.hashCode() + ":" + newest + ":" + size;
+        } catch (IOException e) {
+            throw new RuntimeException("Resource not found: " + filename, e);
+        }
+    }
+
+    /**
+     * Identifies a resource that is not a file by its CRC-32. For jar entries the CRC
+     * stored in the jar is used; otherwise the bytes are hashed once per size and
+     * modification time of the resource and the result is remembered.
+     */
+    private String resourceVersion(String filename, URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                if (entry != null && entry.getCrc() != -1) {
+                    return "crc:" + Long.toHexString(entry.getCrc());
+                }
+            }
+
+            String stamp = url + "@" + connection.getContentLengthLong() + ":" + connection.getLastModified();
+            synchronized (this) {
+                Long crc = resourceCrcs.get(stamp);
+                if (crc != null) {
+                    return "crc:" + Long.toHexString(crc);
+                }
+            }
+
+            CRC32 crc = new CRC32();
+            try (InputStream inputStream = connection.getInputStream()) {
+                byte[] bytes = new byte[1 << 16];
+                int n;
+                while ((n = inputStream.read(bytes)) > 0) {
+                    crc.update(bytes, 0, n);
+                }
+            }
+            synchronized (this) {
+                resourceCrcs.put(stamp, crc.getValue());
+            }
+            return "crc:" + Long.toHexString(crc.getValue());
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading game data file: " + filename, e);
+        }
+    }
+
+    /**
+     * Returns what identifies the way a factory loads banks: its class if instances of the
+     * class are interchangeable, otherwise the factory itself.
+     */
+    private static Object format(GameLoaderFactory factory) {
+        return STATELESS.get(factory.getClass()) ? factory.getClass() : factory;
+    }
+
+    /**
+     * A cached bank: its name, the version of its content and the way it was loaded,
+     * as returned by format.
+     */
+    private record Key(String filename, String version, Object format) {
+    }
+}
@@ -0,0 +1,91 @@
+package jeopardy_game;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hosts many independent games in one process.
+ *
+ * Each game is created with Game.newGame, so it has its own case ID, players, board,
+ * subscribers and Logger, and is kept under its case ID until it is removed. Games
+ * can be created, looked up and removed from any thread; each game is then driven by
+ * one thread at a time, as described in Game.
+ *
+ * An engine can be given a loader factory to set on every game it creates. With a
+ * CachingGameLoaderFactory, all games that play the same bank share one GameData,
+ * since answered questions are tracked per board.
+ */
+public class GameEngine {
+    private final Map<String, Game> games = new ConcurrentHashMap<>();
+    private final GameLoaderFactory loaderFactory;
+
+    /**
+     * Constructs an engine whose games choose their own loader factory.
+     */
+    public GameEngine() {
+        this(null);
+    }
+
+    /**
+     * Constructs an engine that sets the given loader factory on every game it creates.
+     *
+     * @param loaderFactory the factory to load game data with, or null to leave it unset
+     */
+    public GameEngine(GameLoaderFactory loaderFactory) {
+        this.loaderFactory = loaderFactory;
+    }
+
+    /**
+     * Creates a new game and keeps it under its case ID.
+     *
+     * @return the new Game
+     */
+    public Game createGame() {
+        Game game = Game.newGame();
+        if (loaderFactory != null) {
+            game.setLoaderFactory(loaderFactory);
+        }
+        games.put(game.getCaseId(), game);
+        return game;
+    }
+
+    /**
+     * Returns the game with the given case ID.
+     *
+     * @param caseId the case ID of the game
+     * @return the game, or null if there is no such game
+     */
+    public Game getGame(String caseId) {
+        return games.get(caseId);
+    }
+
+    /**
+     * Removes a game, for example once it has ended and its logs have been written.
+     *
+     * @param caseId the case ID of the game
+     * @return the removed game, or null if there was no such game
+     */
+    public Game removeGame(String caseId) {
+        return games.remove(caseId);
+    }
+
+    /**
+     * Returns the number of games currently hosted.
+     *
+     * @return the number of games
+     */
+    public int getGameCount() {
+        return games.size();
+    }
+
+    /**
+     * Returns a live, read-only view of the games currently hosted.
+     *
+     * @return the games
+     */
+    public Collection<Game> getGames() {
+        return Collections.unmodifiableCollection(games.values());
+    }
+}
@@ -6,11 +6,41 @@ package jeopardy_game;
  * loader for a given file type (CSV, JSON, XML).
  */
 public interface GameLoaderFactory {
-    
+
     /**
      * Creates and returns a new GameLoader instance.
      *
      * @return a GameLoader for loading game data
      */
     GameLoader createLoader();
+
+    /**
+     * Returns the appropriate GameLoaderFactory based on the file extension.
+     * Gzip-compressed CSV, JSON and XML banks, such as "bank.csv.gz", get the loader of
+     * the compressed format; the loaders decompress them while reading.
+     *
+     * @param filename the file name
+     * @return a GameLoaderFactory instance for the file type
+     * @throws IllegalArgumentException if the file format is unknown
+     */
+    static GameLoaderFactory forFile(String filename) {
+        boolean compressed = BankFiles.isCompressed(filename);
+        filename = BankFiles.uncompressedName(filename);
+
+        if (filename.endsWith("csv")) {
+            return new CSVLoaderFactory();
+        }
+        else if (filename.endsWith("json")) {
+            return new JSONLoaderFactory();
+        }
+        else if (filename.endsWith("xml")) {
+            return new XMLLoaderFactory();
+        }
+        else if (filename.endsWith(BinaryBankFormat.EXTENSION) && !compressed) {
+            return new BinaryLoaderFactory();
+        }
+        else {
+            throw new IllegalArgumentException("Unknown format");
+        }
+    }
 }
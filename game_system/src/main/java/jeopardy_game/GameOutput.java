@@ -0,0 +1,108 @@
+package jeopardy_game;
+
+import java.util.List;
+
+/**
+ * Receives everything a game session shows to its players.
+ *
+ * Each method is handed the game objects themselves rather than finished text, so
+ * the sink decides whether any text is built at all. ConsoleOutput prints the
+ * classic console game. The methods do nothing by default, which makes NONE a sink
+ * for headless games that builds no strings and prints nothing.
+ */
+public interface GameOutput {
+
+    /** Shows nothing. */
+    GameOutput NONE = new GameOutput() { };
+
+    /**
+     * Shows a fixed prompt, without ending the line.
+     *
+     * @param prompt the prompt
+     */
+    default void prompt(String prompt) { }
+
+    /**
+     * Shows a line of text.
+     *
+     * @param message the text
+     */
+    default void message(String message) { }
+
+    /**
+     * Welcomes the players at the start of a session.
+     */
+    default void welcome() { }
+
+    /**
+     * Announces the player chosen to go first.
+     *
+     * @param player the first player
+     */
+    default void firstPlayer(Player player) { }
+
+    /**
+     * Shows the board at the start of a turn.
+     *
+     * @param board the board
+     */
+    default void board(GameBoard board) { }
+
+    /**
+     * Announces whose turn it is.
+     *
+     * @param player the current player
+     */
+    default void turn(Player player) { }
+
+    /**
+     * Lists the categories that still have unanswered questions.
+     *
+     * @param board the board
+     */
+    default void categoryChoices(GameBoard board) { }
+
+    /**
+     * Lists the unanswered questions of a category.
+     *
+     * @param board the board
+     * @param category the chosen category
+     */
+    default void questionChoices(GameBoard board, Category category) { }
+
+    /**
+     * Shows a question and its options.
+     *
+     * @param question the chosen question
+     */
+    default void question(Question question) { }
+
+    /**
+     * Tells the player that an answer is not one of the question's options.
+     *
+     * @param question the question being answered
+     */
+    default void invalidAnswer(Question question) { }
+
+    /**
+     * Tells the player whether the answer was correct.
+     *
+     * @param question the question answered
+     * @param correct true if the answer was correct
+     */
+    default void answerResult(Question question, boolean correct) { }
+
+    /**
+     * Shows the scores of all players.
+     *
+     * @param players the players
+     */
+    default void scores(List<Player> players) { }
+
+    /**
+     * Shows the end of the game and the final scores.
+     *
+     * @param players the players
+     */
+    default void gameOver(List<Player> players) { }
+}
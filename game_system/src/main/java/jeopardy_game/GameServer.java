@@ -0,0 +1,275 @@
+package jeopardy_game;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Serves Jeopardy tables over TCP with a line protocol.
+ *
+ * Each connection is one table and plays exactly the console game: the server asks
+ * for the number of players and their names, then plays the turns, and the client
+ * answers each prompt with a line of text. Every table is a separate game created
+ * by a GameEngine, so all tables share the cached question bank but nothing else.
+ * The game ends when all questions are answered, a player enters "end" or the
+ * client disconnects; the server then shows the final scores and closes the
+ * connection. Tables are not paced, and no report or event log files are written.
+ *
+ * Each table is served by its own thread, which drives a GameManager session with an
+ * InputHandler reading from the socket. On Java 21 and later these are virtual
+ * threads, so a waiting table holds no platform thread; on older runtimes they are
+ * platform threads with a small stack.
+ *
+ * Usage from the command line:
+ * GameServer [port] [bank file]
+ */
+public class GameServer implements GameTransport {
+    /** The port used when none is given. */
+    public static final int DEFAULT_PORT = 5021;
+
+    /** Stack size of table threads when virtual threads are not available. */
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+
+    private final GameEngine engine;
+    private final String bankFile;
+    private final ExecutorService tables;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    /**
+     * Constructs a server whose tables play the given bank, loaded once with the
+     * loader chosen by the bank's file extension.
+     *
+     * @param bankFile the name of the bank resource or the path of the bank file
+     * @throws IllegalArgumentException if the file format is unknown
+     */
+    public GameServer(String bankFile) {
+        this(new GameEngine(new CachingGameLoaderFactory(GameLoaderFactory.forFile(bankFile))), bankFile);
+    }
+
+    /**
+     * Constructs a server that creates its tables' games with the given engine.
+     *
+     * @param engine the engine that creates and holds the games; it must set a loader factory
+     * @param bankFile the bank that every table plays
+     */
+    public GameServer(GameEngine engine, String bankFile) {
+        this.engine = engine;
+        this.bankFile = bankFile;
+        this.tables = newTableExecutor();
+    }
+
+    /**
+     * Starts the server from the command line and serves tables until the process ends.
+     *
+     * @param args the optional port and bank file
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String bank = args.length > 1 ? args[1] : "sample_game_CSV.csv";
+
+        GameServer server = new GameServer(bank);
+        server.start(port);
+        System.out.println("Serving " + bank + " on port " + server.getPort()
+                + (server.usesVirtualThreads() ? " with virtual threads" : " with platform threads"));
+    }
+
+    /**
+     * Binds the server to a port on all interfaces and starts accepting tables.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server has been started already
+     */
+    public void start(int port) throws IOException {
+        start(port, null);
+    }
+
+    /**
+     * Binds the server to a port on the given address and starts accepting tables.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param address the address to listen on, or null for all interfaces
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server has been started already
+     */
+    @Override
+    public synchronized void start(int port, InetAddress address) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        serverSocket = new ServerSocket(port, 4096, address);
+        acceptor = new Thread(this::acceptLoop, "game-server");
+        acceptor.start();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the local port, or -1 if the server has not been started
+     */
+    @Override
+    public synchronized int getPort() {
+        return serverSocket == null ? -1 : serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of tables being played.
+     *
+     * @return the number of open connections
+     */
+    @Override
+    public int getTableCount() {
+        return connections.size();
+    }
+
+    /**
+     * Returns whether tables are served by virtual threads on this runtime.
+     *
+     * @return true on Java 21 and later
+     */
+    public boolean usesVirtualThreads() {
+        return !(tables instanceof ThreadPoolExecutor);
+    }
+
+    private void acceptLoop() {
+        try {
+            while (true) {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                tables.execute(() -> serve(socket));
+            }
+        } catch (IOException e) {
+            // the server socket has been closed
+        }
+    }
+
+    /**
+     * Plays one table on a connection and closes it when the game is over.
+     */
+    private void serve(Socket socket) {
+        Game game = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()),
+                    false, StandardCharsets.UTF_8);
+            GameOutput output = new ConsoleOutput(out);
+            InputHandler input = new InputHandler(new FlushingInputStream(socket.getInputStream(), out), output);
+
+            game = engine.createGame();
+            game.setOutput(output);
+            game.setPacer(Pacer.NONE);
+            game.startUp();
+            game.loadGame(bankFile);
+
+            int numPlayers = input.getPlayerInput();
+            game.setPlayerCount(numPlayers);
+            for (int i = 1; i <= numPlayers; i++) {
+                game.addPlayer(new Player(i, input.getPlayerNameInput(i)));
+            }
+
+            game.start(input);
+            game.end();
+            out.flush();
+        } catch (NoSuchElementException | SocketException e) {
+            // the client went away before the game was set up
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error serving table " + socket.getRemoteSocketAddress() + ": " + e);
+        } finally {
+            connections.remove(socket);
+            if (game != null) {
+                engine.removeGame(game.getCaseId());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting tables and disconnects the tables being played.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        }
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+        tables.shutdown();
+    }
+
+    private static ExecutorService newTableExecutor() {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual != null) {
+            return virtual;
+        }
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(null, task, "game-table", PLATFORM_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Calls Executors.newVirtualThreadPerTaskExecutor(), which exists from Java 21 on.
+     * The project compiles for Java 17, so the method is looked up reflectively.
+     *
+     * @return an executor that starts a virtual thread per task, or null if the runtime has none
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Flushes the table's output whenever the input is read, so the prompts reach the
+     * client just before the server waits for an answer rather than after every line.
+     */
+    private static final class FlushingInputStream extends FilterInputStream {
+        private final PrintStream out;
+
+        FlushingInputStream(InputStream in, PrintStream out) {
+            super(in);
+            this.out = out;
+        }
+
+        @Override
+        public int read() throws IOException {
+            out.flush();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            out.flush();
+            return super.read(b, off, len);
+        }
+    }
+}
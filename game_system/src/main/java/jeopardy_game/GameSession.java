@@ -0,0 +1,369 @@
+package jeopardy_game;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays the turns of a game one action at a time.
+ *
+ * A session is a state machine over the turn flow: the current player selects a
+ * category, then a question, then answers it; the answer is scored and the turn
+ * passes to the next player. Each action is a line of text, as a player would type
+ * it at the console: a number for a category or question, a letter for an answer,
+ * or "end" to end the game. submit handles one action and returns at once with the
+ * new state, so a session never holds a thread while it waits for a player, and
+ * many sessions can share a few threads.
+ *
+ * What the session shows goes to its GameOutput, and subscribers are notified of
+ * the same events as in the console game. Sessions pause only if given a Pacer that
+ * sleeps, as GameManager does for the console. The methods of a session are
+ * synchronized, so successive actions may be submitted from different threads.
+ * A pause does not hold the session's lock: getState and isFinished answer at once,
+ * and an action submitted during a pause waits until it is over.
+ */
+public class GameSession {
+    /** The pause after the first player is chosen and after each turn. */
+    static final int TURN_PAUSE_MILLIS = 2000;
+
+    /**
+     * The steps of a turn.
+     */
+    public enum State {
+        /** Waiting for the current player to select a category. */
+        SELECT_CATEGORY,
+        /** Waiting for the current player to select a question in the selected category. */
+        SELECT_QUESTION,
+        /** Waiting for the current player to answer the selected question. */
+        ANSWER,
+        /** All questions have been answered or a player ended the game. */
+        FINISHED
+    }
+
+    private final Game game;
+    private final GameOutput output;
+    private final Pacer pacer;
+    private GameBoard board;
+    private State state = State.SELECT_CATEGORY;
+    private boolean started;
+    private boolean pausing;
+    private boolean turnOver;
+    private Category category;
+    private Question question;
+
+    /**
+     * Constructs a session for a game that has its players and game data.
+     * The session shows its turns on the given output and never pauses.
+     *
+     * @param game the game to play
+     * @param output where the session shows the board, questions, results and scores
+     */
+    public GameSession(Game game, GameOutput output) {
+        this(game, output, Pacer.NONE);
+    }
+
+    /**
+     * Constructs a session for a game that has its players and game data.
+     *
+     * @param game the game to play
+     * @param output where the session shows the board, questions, results and scores
+     * @param pacer how the session times its pauses
+     */
+    public GameSession(Game game, GameOutput output, Pacer pacer) {
+        this.game = game;
+        this.output = output;
+        this.pacer = pacer;
+    }
+
+    /**
+     * Starts the session: chooses a random player to go first and shows the first turn.
+     * If the game data is still being loaded in the background, waits for it first.
+     *
+     * @return the new state
+     * @throws IllegalStateException if the game has no players or the session has started
+     */
+    public State start() {
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("Session already started");
+            }
+            if (game.getPlayers().isEmpty()) {
+                throw new IllegalStateException("Cannot start game with no players");
+            }
+            started = true;
+            board = game.getBoard();
+
+            output.welcome();
+            game.setCurrentPlayer(ThreadLocalRandom.current().nextInt(game.getPlayers().size()));
+            pausing = true;
+        }
+
+        return pauseThen(() -> {
+            output.firstPlayer(game.getCurrentPlayer());
+            beginTurn();
+        });
+    }
+
+    /**
+     * Handles one action of the current player. An invalid action is reported on the
+     * output and leaves the state as it was, so the player can try again.
+     *
+     * @param action the line the player entered, or null if the player has gone
+     * @return the new state
+     * @throws IllegalStateException if the session has not been started
+     */
+    public State submit(String action) {
+        synchronized (this) {
+            if (!started) {
+                throw new IllegalStateException("Session not started");
+            }
+            awaitPause();
+            if (state == State.FINISHED) {
+                return state;
+            }
+
+            String input = action == null ? "end" : action.trim();
+            if (input.equalsIgnoreCase("end")) {
+                state = State.FINISHED;
+                return state;
+            }
+
+            switch (state) {
+                case SELECT_CATEGORY:
+                    selectCategory(input);
+                    break;
+                case SELECT_QUESTION:
+                    selectQuestion(input);
+                    break;
+                case ANSWER:
+                    answer(input.toUpperCase());
+                    break;
+                default:
+                    break;
+            }
+            if (!turnOver) {
+                return state;
+            }
+            turnOver = false;
+            pausing = true;
+        }
+
+        return pauseThen(this::beginTurn);
+    }
+
+    /**
+     * Returns the step the session is waiting for.
+     *
+     * @return the current state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether the game is over.
+     *
+     * @return true if the state is FINISHED
+     */
+    public synchronized boolean isFinished() {
+        return state == State.FINISHED;
+    }
+
+    /**
+     * Returns the game played by this session.
+     *
+     * @return the Game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Pauses without holding the lock, then runs the next step of the session and
+     * lets actions waiting for the pause through.
+     */
+    private State pauseThen(Runnable next) {
+        pacer.pause(TURN_PAUSE_MILLIS);
+        synchronized (this) {
+            pausing = false;
+            notifyAll();
+            next.run();
+            return state;
+        }
+    }
+
+    /**
+     * Waits until a pause begun by another thread is over. Must be called holding the lock.
+     */
+    private void awaitPause() {
+        boolean interrupted = false;
+        while (pausing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void beginTurn() {
+        if (board.allQuestionsAnswered()) {
+            state = State.FINISHED;
+            return;
+        }
+        output.board(board);
+        output.turn(game.getCurrentPlayer());
+        promptCategory();
+    }
+
+    private void promptCategory() {
+        state = State.SELECT_CATEGORY;
+        output.categoryChoices(board);
+        output.prompt("Choose a category by number: ");
+    }
+
+    private void promptQuestion() {
+        state = State.SELECT_QUESTION;
+        output.questionChoices(board, category);
+        output.prompt("Choose a question by number: ");
+    }
+
+    private void promptAnswer() {
+        state = State.ANSWER;
+        output.prompt("Choose an answer by letter: ");
+    }
+
+    private void selectCategory(String input) {
+        List<Category> categories = board.getGameData().getCategories();
+        int cIndex = parseChoice(input);
+        if (cIndex == Integer.MIN_VALUE) {
+            output.message("Invalid input. Please enter a number.");
+        } else if (cIndex < 0 || cIndex >= categories.size()) {
+            output.message("Invalid category number. Try again.");
+        } else if (!board.hasUnansweredQuestions(categories.get(cIndex))) {
+            output.message("All questions in that category have been answered. Choose another.");
+        } else {
+            category = categories.get(cIndex);
+            notify(event("Select Category").category(category.getName()));
+            promptQuestion();
+            return;
+        }
+        promptCategory();
+    }
+
+    private void selectQuestion(String input) {
+        List<Question> questions = category.getQuestions();
+        int qIndex = parseChoice(input);
+        if (qIndex == Integer.MIN_VALUE) {
+            output.message("Invalid input. Please enter a number.");
+        } else if (qIndex < 0 || qIndex >= questions.size() || board.isAnswered(questions.get(qIndex))) {
+            output.message("Invalid choice or question already answered. Try again.");
+        } else {
+            question = questions.get(qIndex);
+            notify(event("Select Question")
+                    .questionValue(question.getPoints())
+                    .questionText(question.getQuestionStr())
+                    .category(category.getName()));
+            output.question(question);
+            promptAnswer();
+            return;
+        }
+        promptQuestion();
+    }
+
+    private void answer(String answer) {
+        if (!question.hasOption(answer)) {
+            output.invalidAnswer(question);
+            promptAnswer();
+            return;
+        }
+
+        Player player = game.getCurrentPlayer();
+        notify(event("Answer Question")
+                .questionValue(question.getPoints())
+                .questionText(question.getQuestionStr())
+                .category(category.getName())
+                .answerGiven(answer));
+
+        if (question.checkAnswer(answer)) {
+            output.answerResult(question, true);
+            sendScoreUpdate(player, answer, true);
+            player.addPoints(question.getPoints());
+        } else {
+            output.answerResult(question, false);
+            player.subtractPoints(question.getPoints());
+            sendScoreUpdate(player, answer, false);
+        }
+
+        board.markAnswered(question);
+
+        output.scores(game.getPlayers());
+        output.message("\n");
+
+        int nextIndex = (game.getPlayers().indexOf(player) + 1) % game.getPlayers().size();
+        game.setCurrentPlayer(nextIndex);
+        category = null;
+        question = null;
+
+        if (board.allQuestionsAnswered()) {
+            state = State.FINISHED;
+            return;
+        }
+        // the next turn begins after the pause, which submit takes outside the lock
+        state = State.SELECT_CATEGORY;
+        turnOver = true;
+    }
+
+    /**
+     * Parses a 1-based menu choice.
+     *
+     * @return the 0-based index, or Integer.MIN_VALUE if the input is not a number
+     */
+    private static int parseChoice(String input) {
+        try {
+            return Integer.parseInt(input) - 1;
+        } catch (NumberFormatException e) {
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sends a score update event to all subscribers.
+     * @param p the player who answered
+     * @param ans the answer given by the player
+     * @param isCorrect true if the answer was correct, false otherwise
+     */
+    private void sendScoreUpdate(Player p, String ans, boolean isCorrect) {
+        String result = isCorrect ? "Correct" : "Wrong";
+
+        game.notifySubscribers(
+            new Event.Builder(
+                game.getCaseId(),
+                p.getName(),
+                "Score Updated",
+                java.time.Instant.now().toString()
+            )
+            .questionValue(question.getPoints())
+            .category(category.getName())
+            .answerGiven(ans)
+            .result(result)
+            .scoreAfterPlay(p.getScore())
+            .build()
+        );
+    }
+
+    private Event.Builder event(String activity) {
+        return new Event.Builder(
+            game.getCaseId(),
+            game.getCurrentPlayerName(),
+            activity,
+            java.time.Instant.now().toString()
+        );
+    }
+
+    private void notify(Event.Builder event) {
+        game.notifySubscribers(event.build());
+    }
+}
@@ -0,0 +1,37 @@
+package jeopardy_game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+
+/**
+ * A TCP server that plays Jeopardy tables with the line protocol of the console game.
+ * GameServer serves each table on its own thread; NioGameServer serves all tables
+ * from one event-loop thread.
+ */
+public interface GameTransport extends Closeable {
+
+    /**
+     * Binds the server to a port on the given address and starts serving tables.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param address the address to listen on, or null for all interfaces
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server has been started already
+     */
+    void start(int port, InetAddress address) throws IOException;
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the local port, or -1 if the server has not been started
+     */
+    int getPort();
+
+    /**
+     * Returns the number of tables being played.
+     *
+     * @return the number of open connections
+     */
+    int getTableCount();
+}
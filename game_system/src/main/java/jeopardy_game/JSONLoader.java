@@ -1,20 +1,49 @@
 package jeopardy_game;
 
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * Loads game data from a JSON file and constructs the appropriate Category
  * and Question objects. The JSON must represent a list of objects where each
  * object contains category information, question text, point value, options
  * and the correct answer.
+ *
+ * Each object is bound to an Item record through a reader that is created once and
+ * shared by all loads; ObjectReader is immutable and thread-safe. The array is read
+ * element by element, so only one Item exists at a time.
  */
 public class JSONLoader implements GameLoader {
+    private static final ObjectReader ITEM_READER = new ObjectMapper()
+            .readerFor(Item.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final StringDictionary dictionary;
+
+    /**
+     * Constructs a loader that uses a fresh StringDictionary for every load.
+     */
+    public JSONLoader() {
+        this(null);
+    }
+
+    /**
+     * Constructs a loader that interns repeated strings through the given dictionary,
+     * so callers can read its statistics or share it between loads.
+     *
+     * @param dictionary the dictionary to use, or null for a fresh one per load
+     */
+    public JSONLoader(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
 
     /**
      * Loads game data from the specified JSON file.
@@ -27,40 +56,26 @@ public class JSONLoader implements GameLoader {
      *   "CorrectAnswer": "A"
      * }
      *
-     * @param filename the name of the JSON resource file to load
+     * @param filename the name of the JSON resource or the path of the JSON file to load
      * @return a GameData object containing all parsed categories and questions
      * @throws RuntimeException if the JSON cannot be read or parsed
      */
     @Override
     public GameData load(String filename) {
-        List<Category> categories = new ArrayList<>();
-        Map<String, Category> categoryMap = new HashMap<>();
+        GameDataBuilder builder = new GameDataBuilder(dictionary != null ? dictionary : new StringDictionary());
 
-        try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filename);
-            if (inputStream == null) {
-                throw new RuntimeException("Resource not found: " + filename);
-            }
+        try (InputStream inputStream = BankFiles.open(filename);
+             MappingIterator<Item> items = ITEM_READER.readValues(inputStream)) {
+            while (items.hasNextValue()) {
+                Item item = items.nextValue();
+                Options options = item.options();
 
-            ObjectMapper mapper = new ObjectMapper();
-            List<Map<String, Object>> data = mapper.readValue(inputStream, List.class);
-
-            for (Map<String, Object> row : data) {
-                String categoryName = (String) row.get("Category");
-                int value = (int) row.get("Value");
-                String questionStr = (String) row.get("Question");
-                Map<String, String> optionsMap = (Map<String, String>) row.get("Options");
-                String correctAnswer = (String) row.get("CorrectAnswer");
-
-                Category category = categoryMap.get(categoryName);
-                if (category == null) {
-                    category = new Category(categoryName);
-                    categoryMap.put(categoryName, category);
-                    categories.add(category);
-                }
-
-                Question question = new Question(questionStr, value, optionsMap, correctAnswer);
-                category.addQuestion(question);
+                Question question = options != null && options.isStandard()
+                        ? builder.question(item.question(), item.value(), options.a, options.b, options.c, options.d,
+                                item.correctAnswer())
+                        : builder.question(item.question(), item.value(), options != null ? options.toMap() : null,
+                                item.correctAnswer());
+                builder.addQuestion(item.category(), question);
             }
         }
 
@@ -68,6 +83,60 @@ public class JSONLoader implements GameLoader {
             throw new RuntimeException("Error loading game data from JSON file: " + filename, e);
         }
 
-        return new GameData(categories);
+        return builder.build();
+    }
+
+    /**
+     * One element of the JSON array. Unknown fields are ignored.
+     */
+    record Item(@JsonProperty("Category") String category,
+                @JsonProperty(value = "Value", required = true) int value,
+                @JsonProperty("Question") String question,
+                @JsonProperty("Options") Options options,
+                @JsonProperty("CorrectAnswer") String correctAnswer) {
+    }
+
+    /**
+     * The "Options" object of an item. Options A to D are bound to fields; any other
+     * letters are collected separately so that they are not lost.
+     */
+    static final class Options {
+        @JsonProperty("A") String a;
+        @JsonProperty("B") String b;
+        @JsonProperty("C") String c;
+        @JsonProperty("D") String d;
+        private Map<String, String> others;
+
+        @JsonAnySetter
+        void other(String key, String text) {
+            if (others == null) {
+                others = new LinkedHashMap<>();
+            }
+            others.put(key, text);
+        }
+
+        /** Returns whether the options are exactly A to D. */
+        boolean isStandard() {
+            return others == null && a != null && b != null && c != null && d != null;
+        }
+
+        /** Returns all options keyed by letter. */
+        Map<String, String> toMap() {
+            Map<String, String> options = new LinkedHashMap<>();
+            putIfPresent(options, "A", a);
+            putIfPresent(options, "B", b);
+            putIfPresent(options, "C", c);
+            putIfPresent(options, "D", d);
+            if (others != null) {
+                options.putAll(others);
+            }
+            return options;
+        }
+
+        private static void putIfPresent(Map<String, String> options, String letter, String text) {
+            if (text != null) {
+                options.put(letter, text);
+            }
+        }
     }
-}
\ No newline at end of file
+}
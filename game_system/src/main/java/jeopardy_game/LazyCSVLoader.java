@@ -0,0 +1,178 @@
+package jeopardy_game;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads game data from a CSV file, deferring each question's text and options until
+ * they are first needed.
+ *
+ * Loading maps the file and records, for every row, only its category, its point value
+ * and the byte offset of the row. That is all the board needs to show. Question text,
+ * options and the correct answer are parsed from the mapped file the first time
+ * display(), checkAnswer() or a getter needs them. A small least-recently-used cache
+ * keeps recently used bodies, so a selected question is parsed once however often
+ * it is displayed and checked.
+ *
+ * Rows are checked for the right number of fields and a numeric value when the bank is
+ * loaded, so a bank that loads can always produce its bodies. Like MappedCSVLoader, the
+ * bank must be a real file and must not change while its game data is in use.
+ */
+public class LazyCSVLoader implements GameLoader {
+    /** Default number of question bodies kept per loaded bank. */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final int cacheSize;
+
+    /**
+     * Constructs a loader that caches up to DEFAULT_CACHE_SIZE question bodies per bank.
+     */
+    public LazyCSVLoader() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a loader with the given body cache size.
+     *
+     * @param cacheSize the number of question bodies kept per loaded bank
+     */
+    public LazyCSVLoader(int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be positive");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Loads the question index of the specified CSV file.
+     * The CSV must follow the structure:
+     * Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer
+     *
+     * @param filename the name of the CSV resource or the path of the CSV file to load
+     * @return a GameData object whose questions read their bodies on demand
+     * @throws RuntimeException if the file cannot be read or a row is malformed
+     */
+    @Override
+    public GameData load(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+
+        try {
+            ByteBuffer buffer = MappedCSVLoader.map(BankFiles.resolve(filename));
+            int end = buffer.limit();
+            Bodies bodies = new Bodies(buffer, cacheSize);
+
+            CSVByteScanner scanner = new CSVByteScanner(buffer);
+            int pos = scanner.skipRecord(0, end);
+            while (pos < end) {
+                int recordStart = pos;
+                pos = scanner.readRecord(pos, end);
+
+                if (scanner.isBlankRecord()) {
+                    continue;
+                }
+                if (scanner.getFieldCount() < CSVByteScanner.FIELD_COUNT) {
+                    throw new IllegalArgumentException("Record at byte " + recordStart + " has "
+                            + scanner.getFieldCount() + " fields, expected " + CSVByteScanner.FIELD_COUNT);
+                }
+
+                Category category = scanner.category(builder);
+                category.addQuestion(new LazyQuestion(bodies, recordStart, scanner.intField(1)));
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from CSV file: " + filename, e);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Parses question bodies from the mapped file and caches the most recently used ones.
+     * Shared by all questions of one bank; access is synchronized.
+     */
+    private static final class Bodies {
+        private final ByteBuffer buffer;
+        private final CSVByteScanner scanner;
+        private final Map<Integer, Question> cache;
+
+        Bodies(ByteBuffer buffer, int cacheSize) {
+            this.buffer = buffer;
+            this.scanner = new CSVByteScanner(buffer);
+            this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Question> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+        }
+
+        synchronized Question get(int offset) {
+            Question body = cache.get(offset);
+            if (body == null) {
+                scanner.readRecord(offset, buffer.limit());
+                body = Question.of(scanner.stringField(2), scanner.intField(1),
+                        scanner.stringField(3), scanner.stringField(4), scanner.stringField(5),
+                        scanner.stringField(6), scanner.stringField(7));
+                cache.put(offset, body);
+            }
+            return body;
+        }
+    }
+
+    /**
+     * A question that knows only its point value and where its row starts, and reads
+     * the rest from the shared Bodies when asked.
+     */
+    private static final class LazyQuestion extends Question {
+        private final Bodies bodies;
+        private final int offset;
+
+        LazyQuestion(Bodies bodies, int offset, int points) {
+            super(null, points, (Map<String, String>) null, null);
+            this.bodies = bodies;
+            this.offset = offset;
+        }
+
+        private Question body() {
+            return bodies.get(offset);
+        }
+
+        @Override
+        public void display(PrintStream out) {
+            body().display(out);
+        }
+
+        @Override
+        public boolean checkAnswer(String answer) {
+            return body().checkAnswer(answer);
+        }
+
+        @Override
+        public boolean checkAnswer(int index) {
+            return body().checkAnswer(index);
+        }
+
+        @Override
+        public boolean hasOption(String letter) {
+            return body().hasOption(letter);
+        }
+
+        @Override
+        public String getQuestionStr() {
+            return body().getQuestionStr();
+        }
+
+        @Override
+        public Map<String, String> getOptions() {
+            return body().getOptions();
+        }
+
+        @Override
+        public String getCorrectAnswer() {
+            return body().getCorrectAnswer();
+        }
+    }
+}
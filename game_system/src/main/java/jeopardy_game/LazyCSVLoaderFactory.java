@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating LazyCSVLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * CSV loaders that read question bodies only when they are needed.
+ */
+public class LazyCSVLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new LazyCSVLoader instance.
+     * @return a LazyCSVLoader for loading game data from CSV files
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new LazyCSVLoader();
+    }
+}
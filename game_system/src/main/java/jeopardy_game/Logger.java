@@ -7,53 +7,60 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Singleton logger responsible for collecting and writing game events to a CSV file.
+ * Logger responsible for collecting and writing game events to a CSV file.
  * 
  * The Logger acts as a Subscriber in the Observer pattern. Whenever an Event
  * is published, the update method stores the event. Logs are later exported
  * to a CSV file for process mining.
+ *
+ * getLogger returns the Logger shared by the console game; newLogger creates one
+ * for a single game. All loggers append to the same log file, whose rows are told
+ * apart by case ID. All methods are thread-safe.
  */
 public class Logger implements Subscriber {
+    private static final String HEADER = "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n";
+    /** Serialises writes to the log file by all loggers in the process. */
+    private static final Object FILE_LOCK = new Object();
+
     private static Logger loggerinstance;
     private final List<Event> events = new ArrayList<>();
     private final String logFile = "game_event_log.csv";
 
     /**
-     * Private constructor that initialises the log file. If the file does not exist,
-     * it creates one and writes the header row.
+     * Private constructor used by getLogger and newLogger.
+     * The log file is created, with its header row, when events are first written.
      */
     private Logger() {
-        try {
-            File file = new File(logFile);
-            if (!file.exists()) {
-                try (FileWriter writer = new FileWriter(file)) {
-                    writer.append("Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n");
-                }
-            } 
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
     }    
 
     /**
-     * Returns the singleton instance of the Logger.
+     * Returns the shared instance of the Logger, creating it on first use.
      *
      * @return the shared Logger instance
      */
-    public static Logger getLogger() {
+    public static synchronized Logger getLogger() {
         if (loggerinstance == null) {
             loggerinstance = new Logger();
         }
         return loggerinstance;
     }
 
+    /**
+     * Creates a Logger of its own for one game.
+     *
+     * @return a new Logger with no events
+     */
+    public static Logger newLogger() {
+        return new Logger();
+    }
+
     /**
      * Receives an event from a Publisher and stores it in memory.
      *
      * @param event the event that occurred
      */
     @Override
-    public void update (Event event) {
+    public synchronized void update (Event event) {
         events.add(event);
     }
 
@@ -62,18 +69,29 @@ public class Logger implements Subscriber {
      *
      * @return a list of all events collected so far
      */
-    public List<Event> getEvents() {
+    public synchronized List<Event> getEvents() {
         return new ArrayList<>(events);
     }
 
     /**
      * Writes all recorded events to the CSV log file. Each event is appended
-     * to the file in CSV format.
+     * to the file in CSV format. If the file does not exist, it is created
+     * with a header row first.
      */
     public void generateEventLogs() {
-        for (Event event : events) {
-            try (FileWriter writer = new FileWriter(logFile, true)) {
-                writer.append(formatEventAsCSV(event)).append("\n");
+        List<Event> snapshot = getEvents();
+
+        synchronized (FILE_LOCK) {
+            File file = new File(logFile);
+            boolean header = !file.exists();
+
+            try (FileWriter writer = new FileWriter(file, true)) {
+                if (header) {
+                    writer.append(HEADER);
+                }
+                for (Event event : snapshot) {
+                    writer.append(formatEventAsCSV(event)).append("\n");
+                }
             } catch (IOException e) {
                 e.printStackTrace();
             }
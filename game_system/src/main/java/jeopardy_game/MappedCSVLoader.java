@@ -0,0 +1,75 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads game data from a CSV file by memory-mapping it and scanning the bytes directly.
+ * This avoids the Reader and the per-row String arrays of the opencsv path in CSVLoader;
+ * only the fields that become Question state are decoded. See CSVByteScanner for the
+ * accepted CSV dialect.
+ *
+ * The bank must be a real file: either a classpath resource that is not packed in a jar,
+ * or a path on the filesystem.
+ */
+public class MappedCSVLoader implements StreamingGameLoader {
+
+    /**
+     * Loads game data from the specified CSV file.
+     * The CSV must follow the structure:
+     * Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer
+     *
+     * @param filename the name of the CSV resource or the path of the CSV file to load
+     * @return a GameData object containing all categories and questions
+     * @throws RuntimeException if the file cannot be read or parsed
+     */
+    @Override
+    public GameData load(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+        stream(filename, builder);
+        return builder.build();
+    }
+
+    /**
+     * Scans the specified CSV file once from start to end and passes every question to the sink.
+     *
+     * @param filename the name of the CSV resource or the path of the CSV file to read
+     * @param sink the sink that receives the questions
+     * @throws RuntimeException if the file cannot be read or parsed
+     */
+    @Override
+    public void stream(String filename, QuestionSink sink) {
+        try {
+            MappedByteBuffer buffer = map(BankFiles.resolve(filename));
+            int end = buffer.limit();
+
+            CSVByteScanner scanner = new CSVByteScanner(buffer);
+            int pos = scanner.skipRecord(0, end);
+            scanner.parseRecords(pos, end, sink);
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from CSV file: " + filename, e);
+        }
+    }
+
+    /**
+     * Maps a whole bank file read-only into memory.
+     *
+     * @param path the file to map
+     * @return the mapped bytes
+     * @throws IOException if the file cannot be mapped or is larger than 2 GB
+     */
+    static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Bank file is too large to map: " + path + " (" + size + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating MappedCSVLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * memory-mapped CSV loaders for loading large game banks from CSV files.
+ */
+public class MappedCSVLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new MappedCSVLoader instance.
+     * @return a MappedCSVLoader for loading game data from CSV files
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new MappedCSVLoader();
+    }
+}
@@ -0,0 +1,446 @@
+package jeopardy_game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves Jeopardy tables over TCP with the same line protocol as GameServer, from a
+ * single event-loop thread built on a Selector.
+ *
+ * No thread waits for a table: the loop reads whatever bytes have arrived on any
+ * connection, cuts them into lines, and hands each complete line to the table's
+ * GameSession, which handles it at once. A line may arrive in several reads, and
+ * one read may hold several lines. What a table shows is collected in its own
+ * buffer and written when the loop gets to it; if the client is slow to read, the
+ * rest is written as the socket drains, and the table's input is not read until
+ * then, so a client that never reads cannot make the server buffer without bound.
+ *
+ * Each connection holds its game, its session, a partial input line and its
+ * unwritten output; one read buffer is shared by all connections. The question
+ * bank is loaded once when the server starts and every table plays that GameData,
+ * so the loop never waits for a file.
+ *
+ * Usage from the command line:
+ * NioGameServer [port] [bank file]
+ */
+public class NioGameServer implements GameTransport {
+    /** The longest input line accepted; a client sending a longer line is disconnected. */
+    static final int MAX_LINE_BYTES = 1024;
+
+    private final GameEngine engine;
+    private final String bankFile;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(16 * 1024);
+    private final AtomicInteger tableCount = new AtomicInteger();
+    private GameLoaderFactory bank;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread loop;
+    private volatile boolean running;
+
+    /**
+     * Constructs a server whose tables play the given bank, loaded once with the
+     * loader chosen by the bank's file extension.
+     *
+     * @param bankFile the name of the bank resource or the path of the bank file
+     * @throws IllegalArgumentException if the file format is unknown
+     */
+    public NioGameServer(String bankFile) {
+        this(new GameEngine(new CachingGameLoaderFactory(GameLoaderFactory.forFile(bankFile))), bankFile);
+    }
+
+    /**
+     * Constructs a server that creates its tables' games with the given engine.
+     *
+     * @param engine the engine that creates and holds the games; it must set a loader
+     *               factory, which should cache the bank
+     * @param bankFile the bank that every table plays
+     */
+    public NioGameServer(GameEngine engine, String bankFile) {
+        this.engine = engine;
+        this.bankFile = bankFile;
+    }
+
+    /**
+     * Starts the server from the command line and serves tables until the process ends.
+     *
+     * @param args the optional port and bank file
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        String bank = args.length > 1 ? args[1] : "sample_game_CSV.csv";
+
+        NioGameServer server = new NioGameServer(bank);
+        server.start(port);
+        System.out.println("Serving " + bank + " on port " + server.getPort() + " with a selector");
+    }
+
+    /**
+     * Binds the server to a port on all interfaces and starts the event loop.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server has been started already
+     */
+    public void start(int port) throws IOException {
+        start(port, null);
+    }
+
+    /**
+     * Loads the bank, binds the server to a port on the given address and starts the event loop.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param address the address to listen on, or null for all interfaces
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server has been started already
+     * @throws RuntimeException if the bank cannot be loaded
+     */
+    @Override
+    public synchronized void start(int port, InetAddress address) throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("Server already started");
+        }
+
+        Game warmUp = engine.createGame();
+        try {
+            warmUp.loadGame(bankFile);
+            GameData data = warmUp.getBoard().getGameData();
+            bank = () -> filename -> data;
+        } finally {
+            engine.removeGame(warmUp.getCaseId());
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(address, port), 4096);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        loop = new Thread(this::eventLoop, "nio-game-server");
+        loop.start();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the local port, or -1 if the server has not been started
+     */
+    @Override
+    public synchronized int getPort() {
+        return serverChannel == null ? -1 : serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of tables being played.
+     *
+     * @return the number of open connections
+     */
+    @Override
+    public int getTableCount() {
+        return tableCount.get();
+    }
+
+    private void eventLoop() {
+        try {
+            while (running) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    Table table = (Table) key.attachment();
+                    try {
+                        if (key.isWritable()) {
+                            table.write();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            table.read();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        if (!(e instanceof IOException)) {
+                            System.err.println("Error serving table " + table.channel.socket().getRemoteSocketAddress()
+                                    + ": " + e);
+                        }
+                        table.close();
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            // the server has been closed
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Table) {
+                    ((Table) key.attachment()).close();
+                }
+            }
+        }
+    }
+
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                System.err.println("Error accepting table: " + e);
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+
+            Table table = null;
+            try {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                table = new Table(key, channel, engine.createGame());
+                key.attach(table);
+                tableCount.incrementAndGet();
+                table.open();
+            } catch (IOException | RuntimeException e) {
+                if (table != null) {
+                    table.close();
+                } else {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                        // already closed
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the event loop and disconnects the tables being played.
+     *
+     * @throws IOException if the server channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        Thread thread;
+        synchronized (this) {
+            if (serverChannel == null) {
+                return;
+            }
+            running = false;
+            selector.wakeup();
+            thread = loop;
+        }
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        serverChannel.close();
+        selector.close();
+    }
+
+    /**
+     * One connection: the table's game and its progress, the partial line read so far
+     * and the output not yet written. Only used by the event-loop thread.
+     */
+    private final class Table {
+        private final SelectionKey key;
+        private final SocketChannel channel;
+        private final Game game;
+        private final ByteArrayOutputStream shown = new ByteArrayOutputStream(256);
+        private final PrintStream out = new PrintStream(shown, false, StandardCharsets.UTF_8);
+        private final GameOutput output = new ConsoleOutput(out);
+        private final ArrayDeque<ByteBuffer> unwritten = new ArrayDeque<>(2);
+        private byte[] line;
+        private int lineLength;
+        private int playerCount;
+        private GameSession session;
+        private boolean closing;
+        private boolean closed;
+
+        Table(SelectionKey key, SocketChannel channel, Game game) {
+            this.key = key;
+            this.channel = channel;
+            this.game = game;
+        }
+
+        /**
+         * Sets up the game on the bank loaded by start() and asks for the number of players.
+         */
+        void open() throws IOException {
+            game.setOutput(output);
+            game.setPacer(Pacer.NONE);
+            game.startUp();
+            game.setLoaderFactory(bank);
+            game.loadGame(bankFile);
+
+            output.prompt("Enter number of players (1-4): ");
+            send();
+        }
+
+        /**
+         * Reads the bytes that have arrived and handles every complete line.
+         */
+        void read() throws IOException {
+            readBuffer.clear();
+            int n = channel.read(readBuffer);
+            if (n < 0) {
+                if (session != null && !session.isFinished()) {
+                    session.submit(null);
+                    game.end();
+                }
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            while (readBuffer.hasRemaining() && !closing) {
+                byte b = readBuffer.get();
+                if (b == '\n') {
+                    String text = lineLength == 0 ? "" : new String(line, 0, lineLength, StandardCharsets.UTF_8);
+                    lineLength = 0;
+                    handle(text.endsWith("\r") ? text.substring(0, text.length() - 1) : text);
+                } else {
+                    append(b);
+                }
+            }
+            send();
+        }
+
+        private void append(byte b) throws IOException {
+            if (lineLength == MAX_LINE_BYTES) {
+                throw new IOException("Input line too long");
+            }
+            if (line == null) {
+                line = new byte[64];
+            } else if (lineLength == line.length) {
+                line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_BYTES));
+            }
+            line[lineLength++] = b;
+        }
+
+        /**
+         * Handles one line: the number of players, a player's name, or an action of the game.
+         * The prompts and messages are those of InputHandler.
+         */
+        private void handle(String input) {
+            if (session != null) {
+                if (session.submit(input) == GameSession.State.FINISHED) {
+                    finish();
+                }
+                return;
+            }
+
+            input = input.trim();
+            if (playerCount == 0) {
+                try {
+                    int numPlayers = Integer.parseInt(input);
+                    if (numPlayers >= 1 && numPlayers <= 4) {
+                        playerCount = numPlayers;
+                        game.setPlayerCount(numPlayers);
+                        output.prompt("Enter name for Player 1: ");
+                        return;
+                    }
+                    output.message("Invalid input. Please enter a number from 1-4.");
+                } catch (NumberFormatException e) {
+                    output.message("Invalid input. Please enter a number.");
+                }
+                output.prompt("Enter number of players (1-4): ");
+                return;
+            }
+
+            int index = game.getPlayers().size() + 1;
+            if (input.isEmpty()) {
+                output.message("Name cannot be empty. Enter name for Player " + index + ": ");
+                output.prompt("Enter name for Player " + index + ": ");
+                return;
+            }
+            game.addPlayer(new Player(index, input));
+            if (index < playerCount) {
+                output.prompt("Enter name for Player " + (index + 1) + ": ");
+                return;
+            }
+
+            session = new GameSession(game, output);
+            if (session.start() == GameSession.State.FINISHED) {
+                finish();
+            }
+        }
+
+        /**
+         * Shows the final scores; the connection is closed once they are written.
+         */
+        private void finish() {
+            game.end();
+            closing = true;
+        }
+
+        /**
+         * Queues what the table has shown since the last call and writes as much as the socket takes.
+         */
+        private void send() throws IOException {
+            out.flush();
+            if (shown.size() > 0) {
+                unwritten.add(ByteBuffer.wrap(shown.toByteArray()));
+                shown.reset();
+            }
+            write();
+        }
+
+        /**
+         * Writes queued output. While some is left, the table waits for the socket
+         * to drain instead of reading more input.
+         */
+        void write() throws IOException {
+            while (!unwritten.isEmpty()) {
+                ByteBuffer buffer = unwritten.peek();
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                    return;
+                }
+                unwritten.poll();
+            }
+
+            if (closing) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // already closed
+            }
+            engine.removeGame(game.getCaseId());
+            tableCount.decrementAndGet();
+        }
+    }
+}
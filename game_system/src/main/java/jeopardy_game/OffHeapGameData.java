@@ -0,0 +1,347 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Game data that stays in a compiled bank (see BinaryBankFormat) outside the heap.
+ *
+ * The bank is kept in a direct or memory-mapped buffer. No Category or Question
+ * objects are held: getCategories() and Category.getQuestions() return list views
+ * that create small Category and Question views on demand, and strings are
+ * decoded from the buffer when they are asked for. Apart from a name index of one
+ * int per category, heap usage does not grow with the size of the bank.
+ *
+ * Views are not identical from one call to the next, so they compare equal when
+ * they refer to the same record. The positions used by BoardState come from the
+ * record numbers in the bank, so boards work on this data like on any other.
+ */
+public class OffHeapGameData extends GameData {
+    private final ByteBuffer buffer;
+    private final BinaryBankFormat format;
+    private final int[] nameTable;
+    private final List<Category> categories;
+
+    /**
+     * Constructs game data over the bytes of a compiled bank.
+     *
+     * @param buffer the bytes of the bank; it is read with absolute gets only and must not be modified
+     * @throws IOException if the buffer does not hold a valid bank
+     */
+    public OffHeapGameData(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        this.format = new BinaryBankFormat(buffer);
+        this.nameTable = new int[tableSize(format.getCategoryCount())];
+        this.categories = new CategoryList();
+
+        for (int c = 0; c < format.getCategoryCount(); c++) {
+            String name = categoryName(c);
+            if (findCategory(name) < 0) {
+                int slot = (name == null ? 0 : name.hashCode()) & (nameTable.length - 1);
+                while (nameTable[slot] != 0) {
+                    slot = (slot + 1) & (nameTable.length - 1);
+                }
+                nameTable[slot] = c + 1;
+            }
+        }
+    }
+
+    private static int tableSize(int categoryCount) {
+        int size = 2;
+        while (size < 2 * categoryCount) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    @Override
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    @Override
+    public int getQuestionCount() {
+        return format.getQuestionCount();
+    }
+
+    @Override
+    public int indexOf(Question question) {
+        if (question instanceof QuestionView && ((QuestionView) question).owner() == this) {
+            return ((QuestionView) question).index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(Category category) {
+        if (category instanceof CategoryView && ((CategoryView) category).owner() == this) {
+            return ((CategoryView) category).index;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the category that the question at the given position belongs to.
+     * Categories store their questions contiguously, so this is a binary search over the category index.
+     */
+    @Override
+    public int getCategoryIndex(int questionIndex) {
+        int low = 0;
+        int high = format.getCategoryCount() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (firstQuestion(mid) <= questionIndex) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getCategorySize(int categoryIndex) {
+        return buffer.getInt(format.categoryOffset(categoryIndex) + 8);
+    }
+
+    @Override
+    public Category getCategory(String name) {
+        int c = findCategory(name);
+        return c < 0 ? null : new CategoryView(c);
+    }
+
+    @Override
+    public Question getQuestion(Category category, int pointValue) {
+        int c = indexOf(category);
+        if (c >= 0) {
+            int first = firstQuestion(c);
+            for (int q = first; q < first + getCategorySize(c); q++) {
+                if (buffer.getInt(format.questionOffset(q) + 4) == pointValue) {
+                    return new QuestionView(q);
+                }
+            }
+        }
+        System.err.println("Question not found for category: " + category.getName() + " with point value: " + pointValue);
+        return null;
+    }
+
+    private int findCategory(String name) {
+        int slot = (name == null ? 0 : name.hashCode()) & (nameTable.length - 1);
+        while (nameTable[slot] != 0) {
+            int c = nameTable[slot] - 1;
+            String candidate = categoryName(c);
+            if (name == null ? candidate == null : name.equals(candidate)) {
+                return c;
+            }
+            slot = (slot + 1) & (nameTable.length - 1);
+        }
+        return -1;
+    }
+
+    private int firstQuestion(int categoryIndex) {
+        return buffer.getInt(format.categoryOffset(categoryIndex) + 4);
+    }
+
+    private String categoryName(int categoryIndex) {
+        return string(buffer.getInt(format.categoryOffset(categoryIndex)));
+    }
+
+    private String string(int id) {
+        if (id == BinaryBankFormat.NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[format.stringLength(buffer, id)];
+        buffer.get(format.stringOffset(buffer, id), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the option position of a question's correct answer without decoding it.
+     *
+     * @return the position (0 for A), or -1 if the answer is not a single letter A to D
+     */
+    private int correctIndex(int questionIndex) {
+        int id = buffer.getInt(format.questionOffset(questionIndex) + 24);
+        if (id == BinaryBankFormat.NO_STRING || format.stringLength(buffer, id) != 1) {
+            return -1;
+        }
+        int index = Question.optionIndex((char) buffer.get(format.stringOffset(buffer, id)));
+        return index < BinaryBankFormat.OPTION_KEYS.length ? index : -1;
+    }
+
+    /**
+     * The categories of the bank, as views created on demand.
+     */
+    private final class CategoryList extends AbstractList<Category> implements RandomAccess {
+        @Override
+        public Category get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Category index: " + index);
+            }
+            return new CategoryView(index);
+        }
+
+        @Override
+        public int size() {
+            return format.getCategoryCount();
+        }
+    }
+
+    /**
+     * A read-only view of one category record.
+     */
+    private final class CategoryView extends Category {
+        private final int index;
+        private final List<Question> questions;
+
+        CategoryView(int index) {
+            super(null);
+            this.index = index;
+            this.questions = new QuestionList(firstQuestion(index), getCategorySize(index));
+        }
+
+        OffHeapGameData owner() {
+            return OffHeapGameData.this;
+        }
+
+        @Override
+        public String getName() {
+            return categoryName(index);
+        }
+
+        @Override
+        public List<Question> getQuestions() {
+            return questions;
+        }
+
+        @Override
+        void addQuestion(Question newQuestion) {
+            throw new UnsupportedOperationException("Off-heap game data is read-only");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CategoryView
+                    && ((CategoryView) other).owner() == owner() && ((CategoryView) other).index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+
+    /**
+     * The questions of one category, as views created on demand.
+     */
+    private final class QuestionList extends AbstractList<Question> implements RandomAccess {
+        private final int first;
+        private final int size;
+
+        QuestionList(int first, int size) {
+            this.first = first;
+            this.size = size;
+        }
+
+        @Override
+        public Question get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Question index: " + index);
+            }
+            return new QuestionView(first + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A read-only view of one question record. The point value and answer checks are
+     * read straight from the buffer; the texts are decoded each time they are asked for.
+     */
+    private final class QuestionView extends Question {
+        private final int index;
+
+        QuestionView(int index) {
+            super(null, 0, (Map<String, String>) null, null);
+            this.index = index;
+        }
+
+        OffHeapGameData owner() {
+            return OffHeapGameData.this;
+        }
+
+        private int field(int offset) {
+            return buffer.getInt(format.questionOffset(index) + offset);
+        }
+
+        @Override
+        public String getQuestionStr() {
+            return string(field(0));
+        }
+
+        @Override
+        public int getPoints() {
+            return field(4);
+        }
+
+        @Override
+        public Map<String, String> getOptions() {
+            String[] texts = new String[BinaryBankFormat.OPTION_KEYS.length];
+            for (int o = 0; o < texts.length; o++) {
+                texts[o] = string(field(8 + 4 * o));
+            }
+            return new OptionsView(texts);
+        }
+
+        @Override
+        public String getCorrectAnswer() {
+            return string(field(24));
+        }
+
+        @Override
+        public boolean checkAnswer(String answer) {
+            int correct = correctIndex(index);
+            if (correct >= 0) {
+                return answer.length() == 1 && Question.optionIndex(answer) == correct;
+            }
+            return answer.equalsIgnoreCase(getCorrectAnswer());
+        }
+
+        @Override
+        public boolean checkAnswer(int option) {
+            int correct = correctIndex(index);
+            if (correct >= 0) {
+                return option == correct;
+            }
+            return option >= 0 && option < BinaryBankFormat.OPTION_KEYS.length
+                    && BinaryBankFormat.OPTION_KEYS[option].equalsIgnoreCase(getCorrectAnswer());
+        }
+
+        @Override
+        public boolean hasOption(String letter) {
+            int option = Question.optionIndex(letter);
+            return option >= 0 && option < BinaryBankFormat.OPTION_KEYS.length
+                    && letter.equals(BinaryBankFormat.OPTION_KEYS[option])
+                    && field(8 + 4 * option) != BinaryBankFormat.NO_STRING;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof QuestionView
+                    && ((QuestionView) other).owner() == owner() && ((QuestionView) other).index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+}
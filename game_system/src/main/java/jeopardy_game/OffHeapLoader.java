@@ -0,0 +1,27 @@
+package jeopardy_game;
+
+/**
+ * Loads a bank compiled by BankCompiler as OffHeapGameData.
+ * The file is memory-mapped and nothing is read into the heap up front, so the
+ * loaded bank costs almost no heap however large it is.
+ */
+public class OffHeapLoader implements GameLoader {
+
+    /**
+     * Loads game data from the specified compiled bank.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @return an OffHeapGameData backed by the mapped file
+     * @throws RuntimeException if the file cannot be read or is not a valid bank
+     */
+    @Override
+    public GameData load(String filename) {
+        try {
+            return new OffHeapGameData(MappedCSVLoader.map(BankFiles.resolve(filename)));
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from binary file: " + filename, e);
+        }
+    }
+}
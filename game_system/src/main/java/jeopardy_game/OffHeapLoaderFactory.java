@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating OffHeapLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * loaders that keep compiled banks outside the heap.
+ */
+public class OffHeapLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new OffHeapLoader instance.
+     * @return an OffHeapLoader for loading game data from compiled banks
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new OffHeapLoader();
+    }
+}
@@ -0,0 +1,30 @@
+package jeopardy_game;
+
+/**
+ * Decides how long a game session waits at its pauses, such as after the first
+ * player is chosen and between turns.
+ * SLEEP waits for the time asked for, which gives console players time to read;
+ * NONE does not wait at all, for headless games driven by scripts or tests.
+ */
+@FunctionalInterface
+public interface Pacer {
+
+    /** Sleeps for the time asked for. */
+    Pacer SLEEP = millis -> {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    };
+
+    /** Returns at once. */
+    Pacer NONE = millis -> { };
+
+    /**
+     * Pauses the game.
+     *
+     * @param millis the suggested duration of the pause in milliseconds
+     */
+    void pause(long millis);
+}
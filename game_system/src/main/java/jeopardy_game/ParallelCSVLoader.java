@@ -0,0 +1,193 @@
+package jeopardy_game;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Loads game data from a CSV file by parsing chunks of it in parallel on a ForkJoinPool.
+ *
+ * The file is memory-mapped and split into chunks that start on record boundaries.
+ * A newline ends a record only when it is preceded by an even number of quote
+ * characters, so the boundaries are found by counting quotes per block in parallel
+ * and then scanning forward from each nominal split point. Each chunk is parsed by
+ * its own CSVByteScanner and the per-chunk results are merged in file order, so the
+ * categories and questions come out in the same order as with MappedCSVLoader.
+ *
+ * Files smaller than one chunk are parsed on the calling thread.
+ */
+public class ParallelCSVLoader implements GameLoader {
+    /** Default minimum number of bytes per chunk. */
+    public static final int DEFAULT_MIN_CHUNK_BYTES = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final int minChunkBytes;
+
+    /**
+     * Constructs a loader that uses the common ForkJoinPool.
+     */
+    public ParallelCSVLoader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MIN_CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a loader that parses on the given pool.
+     *
+     * @param pool the pool to run chunk tasks on
+     * @param minChunkBytes the smallest chunk worth handing to another thread
+     */
+    public ParallelCSVLoader(ForkJoinPool pool, int minChunkBytes) {
+        if (minChunkBytes < 1) {
+            throw new IllegalArgumentException("minChunkBytes must be positive");
+        }
+        this.pool = pool;
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    /**
+     * Loads game data from the specified CSV file.
+     * The CSV must follow the structure:
+     * Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer
+     *
+     * @param filename the name of the CSV resource or the path of the CSV file to load
+     * @return a GameData object containing all categories and questions
+     * @throws RuntimeException if the file cannot be read or parsed
+     */
+    @Override
+    public GameData load(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+
+        try {
+            MappedByteBuffer buffer = MappedCSVLoader.map(BankFiles.resolve(filename));
+            int end = buffer.limit();
+            int start = new CSVByteScanner(buffer).skipRecord(0, end);
+
+            int[] bounds = chunkBounds(buffer, start, end);
+            if (bounds.length == 2) {
+                new CSVByteScanner(buffer).parseRecords(start, end, builder);
+                return builder.build();
+            }
+
+            List<Callable<GameDataBuilder>> tasks = new ArrayList<>();
+            for (int i = 0; i < bounds.length - 1; i++) {
+                int from = bounds[i];
+                int to = bounds[i + 1];
+                tasks.add(() -> {
+                    GameDataBuilder chunk = new GameDataBuilder();
+                    new CSVByteScanner(buffer.duplicate()).parseRecords(from, to, chunk);
+                    return chunk;
+                });
+            }
+
+            for (Future<GameDataBuilder> chunk : pool.invokeAll(tasks)) {
+                builder.addAll(chunk.get());
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from CSV file: " + filename, e);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Splits the range of records into chunks that start on record boundaries.
+     *
+     * @param buffer the bytes of the file
+     * @param start the offset of the first record
+     * @param end the end of the file
+     * @return the ascending chunk boundaries, starting with start and ending with end
+     * @throws Exception if a quote counting task fails
+     */
+    int[] chunkBounds(ByteBuffer buffer, int start, int end) throws Exception {
+        return chunkBounds(pool, minChunkBytes, buffer, start, end);
+    }
+
+    /**
+     * Splits the range of records into chunks that start on record boundaries, counting
+     * quotes on the given pool. Shared with BankValidator, which checks chunks the same way.
+     *
+     * @param pool the pool to count quotes on; its parallelism sets the number of chunks
+     * @param minChunkBytes the smallest chunk worth handing to another thread
+     * @param buffer the bytes of the file
+     * @param start the offset of the first record
+     * @param end the end of the file
+     * @return the ascending chunk boundaries, starting with start and ending with end
+     * @throws Exception if a quote counting task fails
+     */
+    static int[] chunkBounds(ForkJoinPool pool, int minChunkBytes, ByteBuffer buffer, int start, int end)
+            throws Exception {
+        long length = end - start;
+        int chunks = (int) Math.min(pool.getParallelism() * 4L, length / minChunkBytes);
+        if (chunks <= 1) {
+            return new int[] {start, end};
+        }
+
+        int[] blockStart = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            blockStart[i] = (int) (start + length * i / chunks);
+        }
+
+        List<Callable<Integer>> counts = new ArrayList<>();
+        for (int i = 0; i < chunks; i++) {
+            int from = blockStart[i];
+            int to = blockStart[i + 1];
+            counts.add(() -> countQuotes(buffer, from, to));
+        }
+        List<Future<Integer>> quoteCounts = pool.invokeAll(counts);
+
+        int[] bounds = new int[chunks + 1];
+        int count = 0;
+        bounds[count++] = start;
+        int quotesBefore = 0;
+
+        for (int i = 1; i < chunks; i++) {
+            quotesBefore += quoteCounts.get(i - 1).get();
+            int boundary = nextRecordStart(buffer, blockStart[i], end, (quotesBefore & 1) == 1);
+            if (boundary > bounds[count - 1] && boundary < end) {
+                bounds[count++] = boundary;
+            }
+        }
+
+        bounds[count++] = end;
+        int[] result = new int[count];
+        System.arraycopy(bounds, 0, result, 0, count);
+        return result;
+    }
+
+    private static int countQuotes(ByteBuffer buffer, int from, int to) {
+        int quotes = 0;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    /**
+     * Finds the first record that starts at or after the given offset.
+     *
+     * @param inQuotes whether the offset lies inside a quoted field
+     * @return the offset just past the first newline outside quotes, or end if there is none
+     */
+    private static int nextRecordStart(ByteBuffer buffer, int pos, int end, boolean inQuotes) {
+        if (pos > 0 && !inQuotes && buffer.get(pos - 1) == '\n') {
+            return pos;
+        }
+        for (; pos < end; pos++) {
+            byte b = buffer.get(pos);
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                return pos + 1;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating ParallelCSVLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * CSV loaders that parse large game banks on all available cores.
+ */
+public class ParallelCSVLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new ParallelCSVLoader instance.
+     * @return a ParallelCSVLoader for loading game data from CSV files
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new ParallelCSVLoader();
+    }
+}
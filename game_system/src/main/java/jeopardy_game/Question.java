@@ -1,18 +1,36 @@
 package jeopardy_game;
 
+import java.io.PrintStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Represents a single question in the Jeopardy game,
- * including its text, point value, options, correct answer
- * and whether it has been answered.
+ * including its text, point value, options and correct answer.
+ * Whether a question has been answered in a game is tracked by that
+ * game's GameBoard, so questions can be shared between games.
+ *
+ * A question is stored in one of two forms. The compact form, used by the loaders,
+ * keeps the option texts in an array and the correct answer as an option index, so
+ * it needs no map per question and checking an answer allocates nothing. The map
+ * form keeps the options map and answer string exactly as given, for callers that
+ * build questions from arbitrary maps. getOptions() returns a map in both cases.
  */
 public class Question {
-    private String questionStr;
-    private int points;
-    private Map<String, String> options;
-    private String correctAnswer;
-    private boolean answered;
+    /** Option letters, indexed by option position. */
+    private static final String[] LETTERS = {"A", "B", "C", "D", "E", "F", "G", "H"};
+
+    private final String questionStr;
+    private final int points;
+    private final Map<String, String> options;
+    private final String correctAnswer;
+    private final String[] optionTexts;
+    private final byte correctIndex;
 
     /**
      * Constructs a new Question with the specified parameters.
@@ -27,7 +45,98 @@ public class Question {
         this.points = points;
         this.options = options;
         this.correctAnswer = correctAnswer;
-        this.answered = false;
+        this.optionTexts = null;
+        this.correctIndex = -1;
+    }
+
+    /**
+     * Constructs a new Question in the compact form.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param options       the option texts, in letter order (A, B, C, ...); the array is not copied
+     * @param correctIndex  the position of the correct option in the array
+     * @throws IllegalArgumentException if there are too many options or the index is out of range
+     */
+    public Question(String questionStr, int points, String[] options, int correctIndex) {
+        if (options.length > LETTERS.length) {
+            throw new IllegalArgumentException("At most " + LETTERS.length + " options are supported");
+        }
+        if (correctIndex < 0 || correctIndex >= options.length) {
+            throw new IllegalArgumentException("Correct option index out of range: " + correctIndex);
+        }
+        this.questionStr = questionStr;
+        this.points = points;
+        this.options = null;
+        this.correctAnswer = null;
+        this.optionTexts = options;
+        this.correctIndex = (byte) correctIndex;
+    }
+
+    /**
+     * Creates a question with four options, A to D. The compact form is used whenever the
+     * correct answer is one of the letters A to D (in either case); otherwise the options and
+     * answer are kept as given in the map form.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param optionA       the text of option A
+     * @param optionB       the text of option B
+     * @param optionC       the text of option C
+     * @param optionD       the text of option D
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    public static Question of(String questionStr, int points, String optionA, String optionB,
+            String optionC, String optionD, String correctAnswer) {
+        int index = optionIndex(correctAnswer);
+        if (index >= 0 && index < 4) {
+            return new Question(questionStr, points, new String[] {optionA, optionB, optionC, optionD}, index);
+        }
+
+        Map<String, String> optionsMap = new HashMap<>();
+        optionsMap.put("A", optionA);
+        optionsMap.put("B", optionB);
+        optionsMap.put("C", optionC);
+        optionsMap.put("D", optionD);
+        return new Question(questionStr, points, optionsMap, correctAnswer);
+    }
+
+    /**
+     * Creates a question from an options map, using the compact form when the map holds
+     * exactly the options A to D and the correct answer is one of them.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param options       a map of answer options, keyed by a letter
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    public static Question of(String questionStr, int points, Map<String, String> options, String correctAnswer) {
+        if (options != null && options.size() == 4 && options.containsKey("A") && options.containsKey("B")
+                && options.containsKey("C") && options.containsKey("D")) {
+            return of(questionStr, points, options.get("A"), options.get("B"),
+                    options.get("C"), options.get("D"), correctAnswer);
+        }
+        return new Question(questionStr, points, options, correctAnswer);
+    }
+
+    /**
+     * Returns the option position for an answer letter, ignoring case.
+     *
+     * @param letter a single-letter answer such as "A" or "b"
+     * @return the position of the option (0 for A), or -1 if the text is not a supported letter
+     */
+    public static int optionIndex(String letter) {
+        if (letter == null || letter.length() != 1) {
+            return -1;
+        }
+        return optionIndex(letter.charAt(0));
+    }
+
+    static int optionIndex(char letter) {
+        int index = Character.toUpperCase(letter) - 'A';
+        return index >= 0 && index < LETTERS.length ? index : -1;
     }
 
     /**
@@ -35,30 +144,68 @@ public class Question {
      */
 
     public void display() {
-        System.out.println(questionStr);
-        for (Map.Entry<String, String> option : options.entrySet()) {
-            System.out.println(option.getKey() + ": " + option.getValue());
+        display(System.out);
+    }
+
+    /**
+     * Displays the question and its answer options on the given stream.
+     *
+     * @param out the stream to print to
+     */
+    public void display(PrintStream out) {
+        if (optionTexts != null) {
+            out.println(questionStr);
+            for (int i = 0; i < optionTexts.length; i++) {
+                out.println(LETTERS[i] + ": " + optionTexts[i]);
+            }
+            return;
+        }
+        out.println(getQuestionStr());
+        for (Map.Entry<String, String> option : getOptions().entrySet()) {
+            out.println(option.getKey() + ": " + option.getValue());
         }
     }
 
     /**
      * Checks whether the provided answer is correct.
+     * For compact questions this compares option positions and allocates nothing.
      *
      * @param answer the player's answer (letter key)
      * @return true if the answer is correct; false otherwise
      */
     public boolean checkAnswer(String answer) {
+        if (optionTexts != null) {
+            return answer.length() == 1 && optionIndex(answer.charAt(0)) == correctIndex;
+        }
         return answer.equalsIgnoreCase(correctAnswer);
     }
 
     /**
-     * Marks this question as answered or unanswered.
+     * Checks whether the option at the given position is the correct answer.
      *
-     * @param answered true to mark as answered, false otherwise
+     * @param index the option position (0 for A)
+     * @return true if the answer is correct; false otherwise
      */
-    public void setAnswered(boolean answered) {
-        this.answered = answered;
-    }  
+    public boolean checkAnswer(int index) {
+        if (optionTexts != null) {
+            return index == correctIndex;
+        }
+        return index >= 0 && index < LETTERS.length && LETTERS[index].equalsIgnoreCase(correctAnswer);
+    }
+
+    /**
+     * Returns whether the question has an option with the given letter.
+     *
+     * @param letter the option letter, in upper case
+     * @return true if there is such an option; false otherwise
+     */
+    public boolean hasOption(String letter) {
+        if (optionTexts != null) {
+            int index = optionIndex(letter);
+            return index >= 0 && index < optionTexts.length && letter.equals(LETTERS[index]);
+        }
+        return options.containsKey(letter);
+    }
 
     /**
      * Returns the question text.
@@ -80,10 +227,14 @@ public class Question {
 
     /**
      * Returns the map of answer options.
+     * For compact questions this is a read-only view of the option array.
      *
      * @return a map of options keyed by letters
      */
     public Map<String, String> getOptions() {
+        if (optionTexts != null) {
+            return new OptionsView(optionTexts);
+        }
         return options;
     }
 
@@ -93,15 +244,72 @@ public class Question {
      * @return the correct answer
      */
     public String getCorrectAnswer() {
+        if (optionTexts != null) {
+            return LETTERS[correctIndex];
+        }
         return correctAnswer;
     }
 
     /**
-     * Returns whether the question has already been answered.
-     *
-     * @return true if answered; false otherwise
+     * Read-only map view of a compact question's options, keyed by letter in option order.
      */
-    public boolean isAnswered() {
-        return answered;
+    static final class OptionsView extends AbstractMap<String, String> {
+        private final String[] texts;
+
+        OptionsView(String[] texts) {
+            this.texts = texts;
+        }
+
+        @Override
+        public int size() {
+            return texts.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && indexOf((String) key) >= 0;
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = key instanceof String ? indexOf((String) key) : -1;
+            return index >= 0 ? texts[index] : null;
+        }
+
+        private int indexOf(String key) {
+            int index = optionIndex(key);
+            return index >= 0 && index < texts.length && key.equals(LETTERS[index]) ? index : -1;
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return texts.length;
+                }
+
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < texts.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (next >= texts.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new AbstractMap.SimpleImmutableEntry<>(LETTERS[i], texts[i]);
+                        }
+                    };
+                }
+            };
+        }
     }
 }
@@ -0,0 +1,53 @@
+package jeopardy_game;
+
+import java.util.Map;
+
+/**
+ * Receives the questions of a bank one at a time, in bank order, as a
+ * StreamingGameLoader parses them.
+ *
+ * Loaders create each question through the sink's question() methods before
+ * handing it to addQuestion, so a sink can decide how questions are built.
+ * GameDataBuilder shares repeated strings this way; the default methods build
+ * plain questions with Question.of.
+ */
+public interface QuestionSink {
+
+    /**
+     * Receives a parsed question.
+     *
+     * @param categoryName the name of the category the question belongs to
+     * @param question the parsed question
+     */
+    void addQuestion(String categoryName, Question question);
+
+    /**
+     * Creates a question with four options.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param optionA       the text of option A
+     * @param optionB       the text of option B
+     * @param optionC       the text of option C
+     * @param optionD       the text of option D
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    default Question question(String questionStr, int points, String optionA, String optionB,
+            String optionC, String optionD, String correctAnswer) {
+        return Question.of(questionStr, points, optionA, optionB, optionC, optionD, correctAnswer);
+    }
+
+    /**
+     * Creates a question from an options map.
+     *
+     * @param questionStr   the text of the question
+     * @param points        the point value of the question
+     * @param options       a map of answer options, keyed by a letter
+     * @param correctAnswer the letter corresponding to the correct answer
+     * @return the new Question
+     */
+    default Question question(String questionStr, int points, Map<String, String> options, String correctAnswer) {
+        return Question.of(questionStr, points, options, correctAnswer);
+    }
+}
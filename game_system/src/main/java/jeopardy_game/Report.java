@@ -14,10 +14,27 @@ import java.util.List;
  * - Turn-by-turn breakdown (category, question, answer, correctness, score updates)
  * - Final scores
  *
- * Output is written to "game_report.txt" in the project directory.
+ * Output is written to "game_report.txt" in the project directory, unless
+ * another file is given.
  */
 public class Report {
-    private final String reportFile = "game_report.txt";
+    private final String reportFile;
+
+    /**
+     * Constructs a report that is written to "game_report.txt".
+     */
+    public Report() {
+        this("game_report.txt");
+    }
+
+    /**
+     * Constructs a report that is written to the given file.
+     *
+     * @param reportFile the path of the report file
+     */
+    public Report(String reportFile) {
+        this.reportFile = reportFile;
+    }
 
     /**
      * Generates a full text-based game report using the final game state and the
@@ -0,0 +1,139 @@
+package jeopardy_game;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Loads game data from an XML file using a StAX pull parser (javax.xml.stream).
+ * Each QuestionItem element is turned into a Question as soon as it closes, so the
+ * document is never held in memory as a tree of maps the way XMLLoader does.
+ */
+public class StaxXMLLoader implements StreamingGameLoader {
+    private static final XMLInputFactory XML_FACTORY = createFactory();
+
+    /**
+     * Loads game data from an XML file. The expected structure is the same as for XMLLoader:
+     * a root element containing QuestionItem entries, each with Category, Value, QuestionText,
+     * Options (OptionA, OptionB, OptionC, OptionD) and CorrectAnswer.
+     *
+     * @param filename the name of the XML resource or the path of the XML file
+     * @return a GameData object containing all parsed categories and questions
+     * @throws RuntimeException if the file cannot be found or parsed
+     */
+    @Override
+    public GameData load(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+        stream(filename, builder);
+        return builder.build();
+    }
+
+    /**
+     * Pulls the specified XML file event by event and passes every question to the sink.
+     *
+     * @param filename the name of the XML resource or the path of the XML file
+     * @param sink the sink that receives the questions
+     * @throws RuntimeException if the file cannot be found or parsed
+     */
+    @Override
+    public void stream(String filename, QuestionSink sink) {
+        try (InputStream inputStream = BankFiles.open(filename)) {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && reader.getLocalName().equals("QuestionItem")) {
+                        readItem(reader, sink);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from XML file: " + filename, e);
+        }
+    }
+
+    /**
+     * Reads a single QuestionItem element. The reader must be positioned on its start tag
+     * and is left on the matching end tag, at which point the question is passed to the sink.
+     *
+     * @param reader the reader to pull events from
+     * @param sink the sink that receives the parsed question
+     * @throws XMLStreamException if the item cannot be read
+     */
+    private void readItem(XMLStreamReader reader, QuestionSink sink) throws XMLStreamException {
+        String categoryName = null;
+        String value = null;
+        String questionStr = null;
+        String correctAnswer = null;
+        String[] options = new String[4];
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("QuestionItem")) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            switch (reader.getLocalName()) {
+                case "Category":
+                    categoryName = reader.getElementText();
+                    break;
+                case "Value":
+                    value = reader.getElementText();
+                    break;
+                case "QuestionText":
+                    questionStr = reader.getElementText();
+                    break;
+                case "OptionA":
+                    options[0] = reader.getElementText();
+                    break;
+                case "OptionB":
+                    options[1] = reader.getElementText();
+                    break;
+                case "OptionC":
+                    options[2] = reader.getElementText();
+                    break;
+                case "OptionD":
+                    options[3] = reader.getElementText();
+                    break;
+                case "CorrectAnswer":
+                    correctAnswer = reader.getElementText();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (value == null) {
+            throw new XMLStreamException("QuestionItem has no Value", reader.getLocation());
+        }
+
+        Question question = sink.question(questionStr, Integer.parseInt(value.trim()),
+                options[0], options[1], options[2], options[3], correctAnswer);
+        sink.addQuestion(categoryName, question);
+    }
+
+    /**
+     * Creates the shared StAX factory. DTDs and external entities are disabled since
+     * question banks never need them.
+     *
+     * @return a configured XMLInputFactory
+     */
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
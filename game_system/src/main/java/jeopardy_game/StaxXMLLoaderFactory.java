@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating StaxXMLLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * streaming XML loaders for loading large game banks from XML files.
+ */
+public class StaxXMLLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new StaxXMLLoader instance.
+     * @return a StaxXMLLoader for loading game data from XML files
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new StaxXMLLoader();
+    }
+}
@@ -0,0 +1,43 @@
+package jeopardy_game;
+
+/**
+ * A GameLoader that can also pass the questions of a bank to a QuestionSink as it
+ * reads them, in a single sequential pass and without keeping them.
+ */
+public interface StreamingGameLoader extends GameLoader {
+
+    /**
+     * Reads the specified bank and passes every question to the sink in bank order.
+     *
+     * @param filename the name of the bank resource or the path of the bank file
+     * @param sink the sink that receives the questions
+     * @throws RuntimeException if the bank cannot be read or parsed
+     */
+    void stream(String filename, QuestionSink sink);
+
+    /**
+     * Returns a streaming loader for the given file name based on its extension.
+     * Plain CSV banks are memory-mapped; compressed CSV banks are read through CSVLoader.
+     *
+     * @param filename the name of the file
+     * @return a StreamingGameLoader for that format
+     * @throws IllegalArgumentException if no streaming loader reads that format
+     */
+    static StreamingGameLoader forFile(String filename) {
+        boolean compressed = BankFiles.isCompressed(filename);
+        filename = BankFiles.uncompressedName(filename);
+
+        if (filename.endsWith("csv")) {
+            return compressed ? new CSVLoader() : new MappedCSVLoader();
+        }
+        else if (filename.endsWith("json")) {
+            return new StreamingJSONLoader();
+        }
+        else if (filename.endsWith("xml")) {
+            return new StaxXMLLoader();
+        }
+        else {
+            throw new IllegalArgumentException("Unknown format");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Loads game data from a JSON file using Jackson's streaming JsonParser.
+ * Unlike JSONLoader, no intermediate tree of maps is built: each element of the
+ * top-level array is read token by token and turned straight into a Question,
+ * so peak memory is bounded by the resulting GameData rather than the document.
+ */
+public class StreamingJSONLoader implements StreamingGameLoader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Loads game data from the specified JSON file.
+     * The expected structure is the same as for JSONLoader: a list of items, each with
+     * "Category", "Value", "Question", "Options" (keyed "A" to "D") and "CorrectAnswer".
+     *
+     * @param filename the name of the JSON resource or the path of the JSON file to load
+     * @return a GameData object containing all parsed categories and questions
+     * @throws RuntimeException if the JSON cannot be read or parsed
+     */
+    @Override
+    public GameData load(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+        stream(filename, builder);
+        return builder.build();
+    }
+
+    /**
+     * Reads the specified JSON file token by token and passes every question to the sink.
+     *
+     * @param filename the name of the JSON resource or the path of the JSON file to read
+     * @param sink the sink that receives the questions
+     * @throws RuntimeException if the JSON cannot be read or parsed
+     */
+    @Override
+    public void stream(String filename, QuestionSink sink) {
+        try (InputStream inputStream = BankFiles.open(filename)) {
+            try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a JSON array of questions");
+                }
+
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, token == null
+                                ? "Unexpected end of the JSON array of questions"
+                                : "Expected a question object but found " + token);
+                    }
+                    readItem(parser, sink);
+                }
+            }
+        }
+
+        catch (Exception e) {
+            throw new RuntimeException("Error loading game data from JSON file: " + filename, e);
+        }
+    }
+
+    /**
+     * Reads a single question object. The parser must be positioned on its START_OBJECT token
+     * and is left on the matching END_OBJECT token. Like JSONLoader, an item without a
+     * "Value" is an error.
+     *
+     * @param parser the parser to read from
+     * @param sink the sink that receives the parsed question
+     * @throws IOException if the item cannot be read
+     */
+    private void readItem(JsonParser parser, QuestionSink sink) throws IOException {
+        String categoryName = null;
+        Integer value = null;
+        String questionStr = null;
+        Map<String, String> optionsMap = null;
+        String correctAnswer = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "Category":
+                    categoryName = parser.getText();
+                    break;
+                case "Value":
+                    value = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : Integer.parseInt(parser.getText().trim());
+                    break;
+                case "Question":
+                    questionStr = parser.getText();
+                    break;
+                case "Options":
+                    optionsMap = readOptions(parser);
+                    break;
+                case "CorrectAnswer":
+                    correctAnswer = parser.getText();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (value == null) {
+            throw new JsonParseException(parser, "Missing required field \"Value\"");
+        }
+        sink.addQuestion(categoryName, sink.question(questionStr, value, optionsMap, correctAnswer));
+    }
+
+    /**
+     * Reads the "Options" object into a map keyed by option letter.
+     *
+     * @param parser the parser, positioned on the START_OBJECT token of the options
+     * @return a map of option letters to option text
+     * @throws IOException if the options cannot be read
+     */
+    private Map<String, String> readOptions(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        Map<String, String> optionsMap = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+            optionsMap.put(key, parser.getText());
+        }
+        return optionsMap;
+    }
+}
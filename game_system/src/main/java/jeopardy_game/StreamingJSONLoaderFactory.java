@@ -0,0 +1,18 @@
+package jeopardy_game;
+
+/**
+ * Factory class for creating StreamingJSONLoader instances.
+ * This class implements GameLoaderFactory and produces
+ * streaming JSON loaders for loading large game banks from JSON files.
+ */
+public class StreamingJSONLoaderFactory implements GameLoaderFactory {
+
+    /**
+     * Creates and returns a new StreamingJSONLoader instance.
+     * @return a StreamingJSONLoader for loading game data from JSON files
+     */
+    @Override
+    public GameLoader createLoader() {
+        return new StreamingJSONLoader();
+    }
+}
@@ -0,0 +1,123 @@
+package jeopardy_game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A load-time dictionary that replaces repeated strings with a single shared instance.
+ *
+ * Question banks repeat many values, such as answer options like "True", "False" or
+ * "None of the above" and the answer letters. Passing every such value through intern()
+ * while a bank is parsed leaves one String per distinct value in the loaded game data
+ * instead of one per row. The dictionary itself is only needed while loading.
+ *
+ * Only short values are worth sharing: long option texts and question texts seldom
+ * repeat, and keeping every one of them in the dictionary would raise the peak memory
+ * of a load instead of lowering it. Strings longer than a maximum length are therefore
+ * returned as they are, and once the dictionary holds its maximum number of entries,
+ * new strings are no longer added, although existing ones are still shared.
+ *
+ * The dictionary also counts how many strings it replaced and estimates the heap those
+ * duplicates would have retained, assuming a 64-bit JVM with compressed references and
+ * compact strings. A dictionary is not thread-safe.
+ */
+public class StringDictionary {
+    private static final int STRING_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /** Longest string interned by default, which covers stock options such as "None of the above". */
+    public static final int DEFAULT_MAX_LENGTH = 32;
+    /** Number of distinct strings kept by default. */
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private final int maxLength;
+    private final int maxEntries;
+    private final Map<String, String> strings = new HashMap<>();
+    private long lookups;
+    private long hits;
+    private long bytesSaved;
+
+    /**
+     * Constructs a dictionary with the default limits.
+     */
+    public StringDictionary() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Constructs a dictionary with the given limits.
+     *
+     * @param maxLength the length of the longest string to intern
+     * @param maxEntries the maximum number of distinct strings to keep
+     */
+    public StringDictionary(int maxLength, int maxEntries) {
+        if (maxLength < 0 || maxEntries < 0) {
+            throw new IllegalArgumentException("Limits must not be negative");
+        }
+        this.maxLength = maxLength;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the shared instance of a string, adding it to the dictionary if it is new,
+     * short enough and the dictionary is not full.
+     *
+     * @param value the string to look up; may be null
+     * @return an equal string held by the dictionary, or value itself if it is not held
+     */
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        lookups++;
+
+        String existing = strings.size() < maxEntries ? strings.putIfAbsent(value, value) : strings.get(value);
+        if (existing == null) {
+            return value;
+        }
+        hits++;
+        bytesSaved += retainedSize(existing);
+        return existing;
+    }
+
+    /**
+     * Estimates the heap retained by a String and its value array.
+     *
+     * @param value the string to measure
+     * @return the estimated size in bytes
+     */
+    static long retainedSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long array = (ARRAY_HEADER_BYTES + (long) bytesPerChar * value.length() + 7) & ~7L;
+        return STRING_BYTES + array;
+    }
+
+    /** Returns the number of distinct strings in the dictionary. */
+    public int size() { return strings.size(); }
+    /**
+     * Returns the number of strings looked up, which excludes null and overlong ones.
+     * Until the dictionary is full this is size() plus getHitCount().
+     */
+    public long getLookupCount() { return lookups; }
+    /** Returns the number of lookups that were replaced by an existing string. */
+    public long getHitCount() { return hits; }
+    /** Returns the estimated heap, in bytes, no longer retained thanks to replaced duplicates. */
+    public long getBytesSaved() { return bytesSaved; }
+
+    /**
+     * Returns a short summary of the dictionary, for example for logging.
+     *
+     * @return the statistics as text
+     */
+    @Override
+    public String toString() {
+        return "StringDictionary[distinct=" + strings.size() + ", lookups=" + lookups
+                + ", duplicates=" + hits + ", saved=" + bytesSaved / 1024 + " KB]";
+    }
+}
@@ -0,0 +1,76 @@
+package jeopardy_game;
+
+/**
+ * A problem found in one record of a question bank by BankValidator.
+ * Lines and records are numbered from 1; the header row of a CSV bank is not a record.
+ */
+public class ValidationIssue {
+
+    /**
+     * The kinds of problems the validator detects.
+     */
+    public enum Kind {
+        /** The record cannot be read, for example because it has too few fields. */
+        MALFORMED_RECORD,
+        /** The point value is not a whole number. */
+        NON_NUMERIC_VALUE,
+        /** One of the options A to D is missing or empty. */
+        MISSING_OPTION,
+        /** The correct answer is not one of the letters A to D. */
+        INVALID_ANSWER,
+        /** Another question earlier in the bank has the same category and point value. */
+        DUPLICATE_QUESTION
+    }
+
+    private final String file;
+    private final int line;
+    private final int record;
+    private final Kind kind;
+    private final String message;
+
+    /**
+     * Constructs an issue.
+     *
+     * @param file the bank the issue was found in
+     * @param line the line on which the record starts
+     * @param record the number of the record in the bank
+     * @param kind the kind of problem
+     * @param message a description of the problem
+     */
+    public ValidationIssue(String file, int line, int record, Kind kind, String message) {
+        this.file = file;
+        this.line = line;
+        this.record = record;
+        this.kind = kind;
+        this.message = message;
+    }
+
+    /**
+     * Returns a copy of this issue moved by the given numbers of lines and records,
+     * for issues found in a chunk that does not start at the beginning of the bank.
+     */
+    ValidationIssue shift(int lines, int records) {
+        return new ValidationIssue(file, line + lines, record + records, kind, message);
+    }
+
+    /** Returns the bank the issue was found in. */
+    public String getFile() { return file; }
+    /** Returns the line on which the record starts. */
+    public int getLine() { return line; }
+    /** Returns the number of the record in the bank. */
+    public int getRecord() { return record; }
+    /** Returns the kind of problem. */
+    public Kind getKind() { return kind; }
+    /** Returns a description of the problem. */
+    public String getMessage() { return message; }
+
+    /**
+     * Returns the issue in the usual "file:line: message" form.
+     *
+     * @return the issue as text
+     */
+    @Override
+    public String toString() {
+        return file + ":" + line + ": record " + record + ": " + message;
+    }
+}
@@ -0,0 +1,70 @@
+package jeopardy_game;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The result of validating a question bank: every issue found, in the order of the
+ * lines they were found on, and the number of records checked.
+ */
+public class ValidationReport {
+    private final String file;
+    private final int recordCount;
+    private final List<ValidationIssue> issues;
+
+    /**
+     * Constructs a report.
+     *
+     * @param file the bank that was validated
+     * @param recordCount the number of records checked
+     * @param issues the issues found, in line order
+     */
+    public ValidationReport(String file, int recordCount, List<ValidationIssue> issues) {
+        this.file = file;
+        this.recordCount = recordCount;
+        this.issues = Collections.unmodifiableList(issues);
+    }
+
+    /** Returns the bank that was validated. */
+    public String getFile() { return file; }
+    /** Returns the number of records checked. */
+    public int getRecordCount() { return recordCount; }
+    /** Returns all issues, in line order. */
+    public List<ValidationIssue> getIssues() { return issues; }
+
+    /**
+     * Returns the issues of one kind, in line order.
+     *
+     * @param kind the kind of issue
+     * @return the matching issues
+     */
+    public List<ValidationIssue> getIssues(ValidationIssue.Kind kind) {
+        return issues.stream().filter(issue -> issue.getKind() == kind).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns whether the bank can be loaded and played without surprises.
+     *
+     * @return true if no issue was found
+     */
+    public boolean isValid() {
+        return issues.isEmpty();
+    }
+
+    /**
+     * Returns a summary followed by one line per issue.
+     *
+     * @return the report as text
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(file).append(": ").append(recordCount).append(" records, ")
+                .append(issues.size()).append(issues.size() == 1 ? " issue" : " issues");
+        for (ValidationIssue issue : issues) {
+            text.append(System.lineSeparator()).append(issue);
+        }
+        return text.toString();
+    }
+}
@@ -1,21 +1,47 @@
 package jeopardy_game;
 
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 
 /**
  * Loads game data from an XML file and constructs the appropriate Category
  * and Question objects. The XML is expected to contain a list of question items,
  * each with category information, point value, question text, options, and
  * the correct answer.
+ *
+ * The document is bound to Bank, Item and Options records through a reader that is
+ * created once and shared by all loads; ObjectReader is immutable and thread-safe.
  */
 public class XMLLoader implements GameLoader {
-    
+    private static final ObjectReader BANK_READER = new XmlMapper()
+            .readerFor(Bank.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final StringDictionary dictionary;
+
+    /**
+     * Constructs a loader that uses a fresh StringDictionary for every load.
+     */
+    public XMLLoader() {
+        this(null);
+    }
+
+    /**
+     * Constructs a loader that interns repeated strings through the given dictionary,
+     * so callers can read its statistics or share it between loads.
+     *
+     * @param dictionary the dictionary to use, or null for a fresh one per load
+     */
+    public XMLLoader(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
     /**
      * Loads game data from an XML file. The XML must contain a root element
      * with a list of QuestionItem entries, each containing:
@@ -25,54 +51,63 @@ public class XMLLoader implements GameLoader {
      * - Options (OptionA, OptionB, OptionC, OptionD)
      * - CorrectAnswer
 
-     * @param filename the name of the XML resource file
+     * @param filename the name of the XML resource or the path of the XML file
      * @return a GameData object containing all parsed categories and questions
      * @throws RuntimeException if the file cannot be found or parsed
      */
     @Override
     public GameData load(String filename) {
-        List<Category> categories = new ArrayList<>();
-        Map<String, Category> categoryMap = new HashMap<>();
+        GameDataBuilder builder = new GameDataBuilder(dictionary != null ? dictionary : new StringDictionary());
+
+        try (InputStream inputStream = BankFiles.open(filename)) {
+            Bank bank = BANK_READER.readValue(inputStream);
 
-        try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filename);
-            if (inputStream == null) {
-                throw new RuntimeException("Resource not found: " + filename);
+            for (Item item : bank.items()) {
+                Options options = item.options() != null ? item.options() : Options.NONE;
+
+                Question question = builder.question(item.questionText(), item.value(),
+                        options.optionA(), options.optionB(), options.optionC(), options.optionD(),
+                        item.correctAnswer());
+                builder.addQuestion(item.category(), question);
             }
+        }
 
-            XmlMapper xmlMapper = new XmlMapper();
-            Map<String, Object> root = xmlMapper.readValue(inputStream, Map.class);
-            List<Map<String, Object>> data = (List<Map<String, Object>>) root.get("QuestionItem");
-
-                for (Map<String, Object> row : data) {
-                    String categoryName = (String) row.get("Category");
-                    int value = Integer.parseInt(row.get("Value").toString());
-                    String questionStr = (String) row.get("QuestionText");
-                    Map<String,Object> optionsObj = (Map<String,Object>) row.get("Options");
-                    String correctAnswer = (String) row.get("CorrectAnswer");
-
-                    Category category = categoryMap.get(categoryName);
-                    if (category == null) {
-                        category = new Category(categoryName);
-                        categoryMap.put(categoryName, category);
-                        categories.add(category);
-                    }
-
-                    Map<String, String> optionsMap = new HashMap<>();
-                    optionsMap.put("A", (String) optionsObj.get("OptionA"));
-                    optionsMap.put("B", (String) optionsObj.get("OptionB"));
-                    optionsMap.put("C", (String) optionsObj.get("OptionC"));
-                    optionsMap.put("D", (String) optionsObj.get("OptionD"));
-                    
-                    Question question = new Question(questionStr, value, optionsMap, correctAnswer);
-                    category.addQuestion(question);
-                }
-        } 
-        
         catch (Exception e) {
             throw new RuntimeException("Error loading game data from XML file: " + filename, e);
         }
     
-        return new GameData(categories);
+        return builder.build();
+    }
+
+    /**
+     * The root element, holding the QuestionItem elements in document order.
+     */
+    record Bank(@JacksonXmlElementWrapper(useWrapping = false)
+                @JsonProperty("QuestionItem") List<Item> items) {
+
+        Bank {
+            items = items != null ? items : List.of();
+        }
+    }
+
+    /**
+     * A QuestionItem element. Unknown elements are ignored.
+     */
+    record Item(@JsonProperty("Category") String category,
+                @JsonProperty(value = "Value", required = true) int value,
+                @JsonProperty("QuestionText") String questionText,
+                @JsonProperty("Options") Options options,
+                @JsonProperty("CorrectAnswer") String correctAnswer) {
+    }
+
+    /**
+     * The Options element of an item.
+     */
+    record Options(@JsonProperty("OptionA") String optionA,
+                   @JsonProperty("OptionB") String optionB,
+                   @JsonProperty("OptionC") String optionC,
+                   @JsonProperty("OptionD") String optionD) {
+
+        static final Options NONE = new Options(null, null, null, null);
     }
 }
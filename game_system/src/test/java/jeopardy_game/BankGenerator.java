@@ -0,0 +1,104 @@
+package jeopardy_game;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes synthetic question banks in the CSV, JSON and XML layouts used by the
+ * sample games. Used by the benchmarks and by tests that need large banks.
+ */
+public class BankGenerator {
+    private static final String[] LETTERS = {"A", "B", "C", "D"};
+
+    private final int questions;
+    private final int categories;
+
+    public BankGenerator(int questions, int categories) {
+        this.questions = questions;
+        this.categories = categories;
+    }
+
+    public String categoryName(int i) {
+        return "Category " + (i % categories);
+    }
+
+    public int points(int i) {
+        return ((i / categories) % 5 + 1) * 100;
+    }
+
+    public String questionText(int i) {
+        return "Synthetic question number " + i + ", which option is correct?";
+    }
+
+    public String option(int i, int o) {
+        return o == 3 ? "None of the above" : "Answer " + LETTERS[o] + " for " + i;
+    }
+
+    public String correctAnswer(int i) {
+        return LETTERS[i % 4];
+    }
+
+    public Path writeCSV(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+            for (int i = 0; i < questions; i++) {
+                w.write(categoryName(i) + "," + points(i) + ",\"" + questionText(i) + "\","
+                        + option(i, 0) + "," + option(i, 1) + "," + option(i, 2) + "," + option(i, 3) + ","
+                        + correctAnswer(i) + "\n");
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Writes the same rows as writeCSV, but with the questions of each category listed together,
+     * the way real archives are laid out.
+     */
+    public Path writeGroupedCSV(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+            for (int c = 0; c < categories; c++) {
+                for (int i = c; i < questions; i += categories) {
+                    w.write(categoryName(i) + "," + points(i) + ",\"" + questionText(i) + "\","
+                            + option(i, 0) + "," + option(i, 1) + "," + option(i, 2) + "," + option(i, 3) + ","
+                            + correctAnswer(i) + "\n");
+                }
+            }
+        }
+        return file;
+    }
+
+    public Path writeJSON(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("[\n");
+            for (int i = 0; i < questions; i++) {
+                w.write("  {\"Category\": \"" + categoryName(i) + "\", \"Value\": " + points(i)
+                        + ", \"Question\": \"" + questionText(i) + "\", \"Options\": {"
+                        + "\"A\": \"" + option(i, 0) + "\", \"B\": \"" + option(i, 1) + "\", "
+                        + "\"C\": \"" + option(i, 2) + "\", \"D\": \"" + option(i, 3) + "\"}, "
+                        + "\"CorrectAnswer\": \"" + correctAnswer(i) + "\"}"
+                        + (i < questions - 1 ? ",\n" : "\n"));
+            }
+            w.write("]\n");
+        }
+        return file;
+    }
+
+    public Path writeXML(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("<?xml version='1.0' encoding='utf-8'?>\n<JeopardyQuestions>");
+            for (int i = 0; i < questions; i++) {
+                w.write("<QuestionItem><Category>" + categoryName(i) + "</Category><Value>" + points(i)
+                        + "</Value><QuestionText>" + questionText(i) + "</QuestionText><Options>"
+                        + "<OptionA>" + option(i, 0) + "</OptionA><OptionB>" + option(i, 1) + "</OptionB>"
+                        + "<OptionC>" + option(i, 2) + "</OptionC><OptionD>" + option(i, 3) + "</OptionD>"
+                        + "</Options><CorrectAnswer>" + correctAnswer(i) + "</CorrectAnswer></QuestionItem>\n");
+            }
+            w.write("</JeopardyQuestions>\n");
+        }
+        return file;
+    }
+}
@@ -0,0 +1,181 @@
+package jeopardy_game;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CachingTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private GameLoaderFactory countingFactory() {
+        return () -> filename -> {
+            loads.incrementAndGet();
+            return new MappedCSVLoader().load(filename);
+        };
+    }
+
+    @Test
+    void secondLoadOfSameBankIsAHit() {
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader loader = new CachingGameLoaderFactory(countingFactory(), cache).createLoader();
+
+        GameData first = loader.load("sample_game_CSV.csv");
+        GameData second = loader.load("sample_game_CSV.csv");
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(first.getCategories().size(), second.getCategories().size());
+    }
+
+    @Test
+    void cachedBankIsSharedButBoardsAreNot() {
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader loader = new CachingGameLoaderFactory(countingFactory(), cache).createLoader();
+
+        GameData first = loader.load("sample_game_CSV.csv");
+        GameData second = loader.load("sample_game_CSV.csv");
+        assertSame(first, second);
+
+        GameBoard firstBoard = new GameBoard(first);
+        GameBoard secondBoard = new GameBoard(second);
+        Question q = first.getCategories().get(0).getQuestions().get(0);
+        firstBoard.markAnswered(q);
+
+        assertNotSame(firstBoard.getState(), secondBoard.getState());
+        assertFalse(secondBoard.isAnswered(q));
+    }
+
+    @Test
+    void modifiedBankIsReloaded(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Old,100,Q,a,b,c,d,A\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L));
+
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader loader = new CachingGameLoaderFactory(countingFactory(), cache).createLoader();
+        assertEquals("Old", loader.load(file.toString()).getCategories().get(0).getName());
+
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "New,100,Q,a,b,c,d,A\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000L));
+        assertEquals("New", loader.load(file.toString()).getCategories().get(0).getName());
+
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void leastRecentlyUsedBankIsEvicted(@TempDir Path dir) throws Exception {
+        GameDataCache cache = new GameDataCache(2);
+        GameLoader loader = new CachingGameLoaderFactory(countingFactory(), cache).createLoader();
+
+        String[] banks = new String[3];
+        for (int i = 0; i < banks.length; i++) {
+            Path file = dir.resolve("bank" + i + ".csv");
+            Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                    + "C" + i + ",100,Q,a,b,c,d,A\n");
+            banks[i] = file.toString();
+        }
+
+        loader.load(banks[0]);
+        loader.load(banks[1]);
+        loader.load(banks[0]);
+        loader.load(banks[2]);
+
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+
+        loader.load(banks[0]);
+        assertEquals(2, cache.getHitCount());
+        loader.load(banks[1]);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void banksLoadedByDifferentFactoriesAreKeptApart() {
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader sampler = new CachingGameLoaderFactory(
+                () -> new BoardSampler(StreamingGameLoader.forFile("sample_game_CSV.csv"), 1, new int[] {100},
+                        new java.util.Random(1)), cache).createLoader();
+        GameLoader full = new CachingGameLoaderFactory(countingFactory(), cache).createLoader();
+
+        GameData board = sampler.load("sample_game_CSV.csv");
+        GameData bank = full.load("sample_game_CSV.csv");
+
+        assertEquals(1, board.getQuestionCount());
+        assertNotSame(board, bank);
+        assertEquals(new MappedCSVLoader().load("sample_game_CSV.csv").getQuestionCount(), bank.getQuestionCount());
+        assertSame(bank, full.load("sample_game_CSV.csv"));
+        assertSame(board, sampler.load("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void factoriesOfTheSameFormatShareTheSharedCache() {
+        GameData first = new CachingGameLoaderFactory(GameLoaderFactory.forFile("sample_game_JSON.json"))
+                .createLoader().load("sample_game_JSON.json");
+        long hits = GameDataCache.shared().getHitCount();
+        GameData second = new CachingGameLoaderFactory(GameLoaderFactory.forFile("sample_game_JSON.json"))
+                .createLoader().load("sample_game_JSON.json");
+
+        assertSame(first, second);
+        assertEquals(hits + 1, GameDataCache.shared().getHitCount());
+        assertNotSame(first, new CachingGameLoaderFactory(new StreamingJSONLoaderFactory())
+                .createLoader().load("sample_game_JSON.json"));
+    }
+
+    @Test
+    void bankEditedWhileLoadingIsReadAgain(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        String header = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+        Files.writeString(file, header + "Old,100,Q,a,b,c,d,A\n");
+
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader loader = new CachingGameLoaderFactory(() -> filename -> {
+            GameData data = new CSVLoader().load(filename);
+            if (loads.incrementAndGet() == 1) {
+                try {
+                    Files.writeString(file, header + "Edited,100,Q,a,b,c,d,A\nEdited,200,Q,a,b,c,d,A\n");
+                } catch (java.io.IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            }
+            return data;
+        }, cache).createLoader();
+
+        GameData data = loader.load(file.toString());
+        assertEquals(2, loads.get());
+        assertEquals("Edited", data.getCategories().get(0).getName());
+        assertSame(data, loader.load(file.toString()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bankDirectoryIsCachedUntilABankChanges(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("a.csv");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Old,100,Q,a,b,c,d,A\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L));
+
+        GameDataCache cache = new GameDataCache(4);
+        GameLoader loader = new CachingGameLoaderFactory(new CompositeLoaderFactory(), cache).createLoader();
+        GameData first = loader.load(dir.toString());
+        assertSame(first, loader.load(dir.toString()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals("Old", loader.load(dir + "/*.csv").getCategories().get(0).getName());
+
+        Files.writeString(dir.resolve("b.csv"), "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Added,100,Q,a,b,c,d,A\n");
+        assertEquals(2, loader.load(dir.toString()).getCategories().size());
+    }
+}
@@ -56,7 +56,7 @@ public class CategoryTest {
     }
 
     @Test
-    void getQuestionsIsMutableThroughReference() {
+    void getQuestionsIsReadOnlyView() {
         Category cat = new Category("T");
         List<Question> original = new ArrayList<>();
 
@@ -76,9 +76,8 @@ public class CategoryTest {
             Map<String, String> m2 = new HashMap<>();
             m2.put("A", "V");
             Question q2 = new Question("ViaGet", 20, m2, "A");
-            cat.getQuestions().add(q2);
-            assertEquals(2, original.size());
-            assertSame(q2, original.get(1));
+            assertThrows(UnsupportedOperationException.class, () -> cat.getQuestions().add(q2));
+            assertEquals(1, original.size());
         } catch (NoSuchFieldException | IllegalAccessException e) {
             fail("Reflection failed to initialize questions: " + e.getMessage());
         }
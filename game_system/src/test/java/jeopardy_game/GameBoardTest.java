@@ -1,8 +1,10 @@
 package jeopardy_game;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -55,15 +57,33 @@ public class GameBoardTest {
         GameData gd = new GameData(cats);
         GameBoard board = new GameBoard(gd);
 
-        assertFalse(q.isAnswered());
+        assertFalse(board.isAnswered(q));
         board.markQuestion(cat, 200);
-        assertTrue(q.isAnswered());
+        assertTrue(board.isAnswered(q));
+    }
+
+    @Test
+    void boardsSharingGameDataTrackAnswersSeparately() throws Exception {
+        Category cat = new Category("General");
+        Map<String, String> opts = new HashMap<>();
+        opts.put("A", "char");
+        Question q = new Question("Which data type is used to store a single character?", 200, opts, "A");
+        cat.addQuestion(q);
+        GameData shared = new GameData(List.of(cat));
+
+        GameBoard first = new GameBoard(shared);
+        GameBoard second = new GameBoard(shared);
+        first.markAnswered(q);
+
+        assertTrue(first.isAnswered(q));
+        assertTrue(first.allQuestionsAnswered());
+        assertFalse(second.isAnswered(q));
+        assertFalse(second.allQuestionsAnswered());
+        assertTrue(second.hasUnansweredQuestions(cat));
     }
 
     @Test
     void allQuestionsAnswered_behaviorDocumented() throws Exception {
-        // Note: current implementation of allQuestionsAnswered is inverted (returns true when none answered,
-        // and false when questions are answered). This test documents the current behavior.
         Category cat = new Category("General");
         initQuestionsList(cat);
 
@@ -87,8 +107,9 @@ public class GameBoardTest {
         assertFalse(board.allQuestionsAnswered(), "No questions answered -> allQuestionsAnswered should be false");
 
         // Mark both questions answered -> should return true
-        q1.setAnswered(true);
-        q2.setAnswered(true);
+        board.markAnswered(q1);
+        assertFalse(board.allQuestionsAnswered(), "One question left -> allQuestionsAnswered should be false");
+        board.markAnswered(q2);
         assertTrue(board.allQuestionsAnswered(), "All questions answered -> allQuestionsAnswered should be true");
     }
 
@@ -101,4 +122,118 @@ public class GameBoardTest {
         // Should not throw (method catches exceptions internally)
         board.displayBoard();
     }
+
+    @Test
+    void lookupsByNameAndPointsReturnFirstMatch() {
+        Category first = new Category("Loops");
+        Category duplicate = new Category("Loops");
+        Category other = new Category("Arrays");
+        Question q100 = new Question("Q100", 100, new HashMap<>(), "A");
+        Question q100Again = new Question("Q100 again", 100, new HashMap<>(), "A");
+        Question q200 = new Question("Q200", 200, new HashMap<>(), "A");
+        first.addQuestion(q100);
+        first.addQuestion(q100Again);
+        first.addQuestion(q200);
+
+        GameBoard board = new GameBoard(new GameData(List.of(first, duplicate, other)));
+
+        assertSame(first, board.getCategory("Loops"));
+        assertSame(other, board.getCategory("Arrays"));
+        assertNull(board.getCategory("Pointers"));
+        assertSame(q100, board.getQuestion(first, 100));
+        assertSame(q200, board.getQuestion(first, 200));
+        assertNull(board.getQuestion(first, 300));
+        assertNull(board.getQuestion(other, 100));
+    }
+
+    @Test
+    void questionPositionsFollowCategoryOrderWhateverThePoints() {
+        Category loops = new Category("Loops");
+        Category empty = new Category("Empty");
+        Category arrays = new Category("Arrays");
+        Question q300 = new Question("Q300", 300, new HashMap<>(), "A");
+        Question q100 = new Question("Q100", 100, new HashMap<>(), "A");
+        Question q200 = new Question("Q200", 200, new HashMap<>(), "A");
+        Question shared = new Question("Shared", -100, new HashMap<>(), "A");
+        loops.addQuestion(q300);
+        loops.addQuestion(shared);
+        loops.addQuestion(q100);
+        arrays.addQuestion(q200);
+        arrays.addQuestion(shared);
+
+        GameData data = new GameData(List.of(loops, empty, arrays));
+
+        assertEquals(4, data.getQuestionCount());
+        assertEquals(0, data.indexOf(q300));
+        assertEquals(1, data.indexOf(shared));
+        assertEquals(2, data.indexOf(q100));
+        assertEquals(3, data.indexOf(q200));
+        assertEquals(-1, data.indexOf(new Question("Q100", 100, new HashMap<>(), "A")));
+        assertEquals(3, data.getCategorySize(0));
+        assertEquals(0, data.getCategorySize(1));
+        assertEquals(1, data.getCategorySize(2));
+        assertEquals(2, data.getCategoryIndex(3));
+        assertSame(shared, data.getQuestion(loops, -100));
+        assertSame(q100, data.getQuestion(loops, 100));
+        assertSame(q200, data.getQuestion(arrays, 200));
+        assertNull(data.getQuestion(empty, 100));
+    }
+
+    @Test
+    void remainingCountsFollowAnsweredQuestions() {
+        Category loops = new Category("Loops");
+        Category arrays = new Category("Arrays");
+        Question q1 = new Question("Q1", 100, new HashMap<>(), "A");
+        Question q2 = new Question("Q2", 200, new HashMap<>(), "A");
+        Question q3 = new Question("Q3", 100, new HashMap<>(), "A");
+        loops.addQuestion(q1);
+        loops.addQuestion(q2);
+        arrays.addQuestion(q3);
+
+        GameBoard board = new GameBoard(new GameData(List.of(loops, arrays)));
+        BoardState state = board.getState();
+        assertEquals(3, state.getRemaining());
+        assertEquals(2, state.getRemaining(loops));
+
+        board.markAnswered(q1);
+        board.markAnswered(q1);
+        assertEquals(2, state.getRemaining());
+        assertEquals(1, state.getRemaining(loops));
+        assertTrue(board.hasUnansweredQuestions(loops));
+
+        board.markAnswered(q2);
+        assertFalse(board.hasUnansweredQuestions(loops));
+        assertTrue(board.hasUnansweredQuestions(arrays));
+        assertFalse(board.allQuestionsAnswered());
+
+        board.markAnswered(q3);
+        assertEquals(0, state.getRemaining());
+        assertTrue(board.allQuestionsAnswered());
+        assertFalse(board.hasUnansweredQuestions(new Category("INVALID")));
+    }
+
+    @Test
+    void boardTracksOffHeapQuestionViews(@TempDir Path dir) throws Exception {
+        Category loops = new Category("Loops");
+        loops.addQuestion(Question.of("Q1", 100, "a", "b", "c", "d", "A"));
+        loops.addQuestion(Question.of("Q2", 200, "a", "b", "c", "d", "B"));
+        Category arrays = new Category("Arrays");
+        arrays.addQuestion(Question.of("Q3", 100, "a", "b", "c", "d", "C"));
+        Path file = dir.resolve("bank.jqb");
+        new BankCompiler().compile(new GameData(List.of(loops, arrays)), file);
+
+        GameData data = new OffHeapLoader().load(file.toString());
+        GameBoard board = new GameBoard(data);
+
+        // each lookup returns a new view of the same record
+        Question q2 = board.getQuestion(board.getCategory("Loops"), 200);
+        assertTrue(q2.checkAnswer("b"));
+        board.markAnswered(q2);
+        assertTrue(board.isAnswered(data.getCategories().get(0).getQuestions().get(1)));
+        assertEquals(1, board.getState().getRemaining(data.getCategories().get(0)));
+
+        board.markAnswered(data.getCategories().get(0).getQuestions().get(0));
+        board.markAnswered(data.getCategories().get(1).getQuestions().get(0));
+        assertTrue(board.allQuestionsAnswered());
+    }
 }
@@ -8,6 +8,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,13 +148,327 @@ public class GamePlayTest {
         Question q1 = new Question("Q1", 100, opts1, "A");
         Question q2 = new Question("Q2", 200, opts2, "B");
 
-        q1.setAnswered(true);
-
         Category c = new Category("Test");
         c.addQuestion(q1);
         c.addQuestion(q2);
 
-        long count = c.getQuestions().stream().filter(q -> !q.isAnswered()).count();
+        GameBoard board = new GameBoard(new GameData(List.of(c)));
+        board.markAnswered(q1);
+
+        long count = c.getQuestions().stream().filter(q -> !board.isAnswered(q)).count();
         assertEquals(1, count, "Only one question should be selectable");
     }
+
+    @Test
+    void testAsyncLoadSetsBoardWhenAwaited() throws Exception {
+        resetSingleton();
+        Game game = Game.getGame();
+        List<String> activities = new ArrayList<>();
+        game.subscribe(event -> activities.add(event.getActivity()));
+
+        CountDownLatch release = new CountDownLatch(1);
+        game.setLoaderFactory(() -> filename -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            Category cat = new Category("G");
+            cat.addQuestion(Question.of("Q", 100, "a", "b", "c", "d", "A"));
+            return new GameData(List.of(cat));
+        });
+
+        CompletableFuture<GameData> load = game.loadGameAsync("unused");
+        assertFalse(load.isDone(), "loading runs in the background");
+        assertEquals(1, activities.size());
+
+        release.countDown();
+        assertEquals(1, game.getBoard().getGameData().getCategories().size());
+        assertEquals(2, activities.size());
+        assertSame(load.get(), game.getBoard().getGameData());
+    }
+
+    @Test
+    void testAsyncLoadEventCarriesCompletionTime() throws Exception {
+        resetSingleton();
+        Game game = Game.getGame();
+        List<Event> events = new ArrayList<>();
+        game.subscribe(events::add);
+        game.setLoaderFactory(() -> filename -> {
+            Category cat = new Category("G");
+            cat.addQuestion(Question.of("Q", 100, "a", "b", "c", "d", "A"));
+            return new GameData(List.of(cat));
+        });
+
+        game.loadGameAsync("unused").get();
+        Thread.sleep(50);
+        java.time.Instant awaited = java.time.Instant.now();
+        game.getBoard();
+
+        Event loaded = events.get(events.size() - 1);
+        assertEquals("File Loaded Successfully", loaded.getActivity());
+        assertTrue(java.time.Instant.parse(loaded.getTimestamp()).isBefore(awaited),
+                "the event is stamped when the load finished, not when it was awaited");
+    }
+
+    @Test
+    void testAsyncLoadFailureRethrowsLoaderException() throws Exception {
+        resetSingleton();
+        Game game = Game.getGame();
+        RuntimeException failure = new RuntimeException("Error loading game data from CSV file: missing.csv");
+        game.setLoaderFactory(() -> filename -> {
+            throw failure;
+        });
+
+        game.loadGameAsync("missing.csv");
+        game.addPlayer(new Player(1, "P1"));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> game.start(new InputHandler()));
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void testNewGamesAreIndependent() throws Exception {
+        resetSingleton();
+        Game first = Game.newGame();
+        Game second = Game.newGame();
+
+        assertNotSame(first, second);
+        assertNotEquals(first.getCaseId(), second.getCaseId());
+        assertNotSame(first.getLogger(), second.getLogger());
+        assertNotSame(Game.getGame(), first);
+
+        first.addPlayer(new Player(1, "Alice"));
+        first.startUp();
+        assertTrue(second.getPlayers().isEmpty());
+        assertTrue(second.getLogger().getEvents().isEmpty());
+        assertEquals(2, first.getLogger().getEvents().size(), "a new game's logger is subscribed already");
+    }
+
+    @Test
+    void testEngineHostsConcurrentGames() throws Exception {
+        GameEngine engine = new GameEngine(new CachingGameLoaderFactory(new CSVLoaderFactory()));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Game>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 2000; i++) {
+                futures.add(executor.submit(() -> {
+                    Game game = engine.createGame();
+                    game.loadGame("sample_game_CSV.csv");
+                    game.addPlayer(new Player(1, "P1"));
+                    game.addPlayer(new Player(2, "P2"));
+                    Question q = game.getBoard().getGameData().getCategories().get(0).getQuestions().get(0);
+                    game.getBoard().markAnswered(q);
+                    return game;
+                }));
+            }
+
+            GameData shared = null;
+            for (Future<Game> future : futures) {
+                Game game = future.get();
+                assertSame(game, engine.getGame(game.getCaseId()));
+                assertEquals(2, game.getPlayers().size());
+                List<Question> questions = game.getBoard().getGameData().getCategories().get(0).getQuestions();
+                assertTrue(game.getBoard().isAnswered(questions.get(0)));
+                assertFalse(game.getBoard().isAnswered(questions.get(1)));
+                assertEquals(4, game.getLogger().getEvents().size());
+                assertTrue(game.getLogger().getEvents().stream().allMatch(e -> e.getCaseId().equals(game.getCaseId())));
+
+                if (shared == null) {
+                    shared = game.getBoard().getGameData();
+                }
+                assertSame(shared, game.getBoard().getGameData(), "games share the cached bank");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2000, engine.getGameCount());
+        String caseId = engine.getGames().iterator().next().getCaseId();
+        assertNotNull(engine.removeGame(caseId));
+        assertNull(engine.getGame(caseId));
+        assertEquals(1999, engine.getGameCount());
+    }
+
+    @Test
+    void testHeadlessGameRunsScriptedInput() throws Exception {
+        Game game = Game.newGame();
+        game.setLoaderFactory(new CSVLoaderFactory());
+        game.loadGame("sample_game_CSV.csv");
+        game.addPlayer(new Player(1, "P1"));
+        game.addPlayer(new Player(2, "P2"));
+        game.setHeadless();
+
+        // answer every question correctly, in board order, after one invalid answer
+        StringBuilder script = new StringBuilder();
+        int total = 0;
+        List<Category> categories = game.getBoard().getGameData().getCategories();
+        for (int c = 0; c < categories.size(); c++) {
+            List<Question> questions = categories.get(c).getQuestions();
+            for (int q = 0; q < questions.size(); q++) {
+                script.append(c + 1).append('\n').append(q + 1).append('\n');
+                if (total == 0) {
+                    script.append("Z\n");
+                }
+                script.append(questions.get(q).getCorrectAnswer()).append('\n');
+                total += questions.get(q).getPoints();
+            }
+        }
+        InputHandler input = new InputHandler(
+                new java.io.ByteArrayInputStream(script.toString().getBytes()), GameOutput.NONE);
+
+        game.start(input);
+        game.end();
+
+        assertTrue(game.getBoard().allQuestionsAnswered());
+        assertEquals(total, game.getPlayers().get(0).getScore() + game.getPlayers().get(1).getScore());
+        assertEquals("Exit Game", game.getLogger().getEvents().get(game.getLogger().getEvents().size() - 1).getActivity());
+    }
+
+    @Test
+    void testDisplayScoresUsesGameOutput() {
+        Game game = Game.newGame();
+        game.addPlayer(new Player(1, "P1"));
+        java.io.ByteArrayOutputStream shown = new java.io.ByteArrayOutputStream();
+        game.setOutput(new ConsoleOutput(new java.io.PrintStream(shown, true)));
+
+        game.displayScores();
+        assertTrue(shown.toString().contains("P1"));
+    }
+
+    @Test
+    void testSessionPausesWithoutHoldingItsLock() throws Exception {
+        Game game = Game.newGame();
+        Category cat = new Category("G");
+        cat.addQuestion(Question.of("Q1", 100, "a", "b", "c", "d", "A"));
+        cat.addQuestion(Question.of("Q2", 200, "a", "b", "c", "d", "B"));
+        game.setLoaderFactory(() -> filename -> new GameData(List.of(cat)));
+        game.loadGame("unused");
+        game.addPlayer(new Player(1, "P1"));
+
+        CountDownLatch paused = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        boolean[] firstPause = {true};
+        GameSession session = new GameSession(game, GameOutput.NONE, millis -> {
+            if (firstPause[0]) {
+                firstPause[0] = false;
+                return;
+            }
+            paused.countDown();
+            try {
+                resume.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        session.start();
+        session.submit("1");
+        session.submit("1");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<GameSession.State> answered = executor.submit(() -> session.submit("A"));
+            paused.await();
+            assertEquals(GameSession.State.SELECT_CATEGORY, session.getState());
+            assertFalse(session.isFinished());
+
+            resume.countDown();
+            assertEquals(GameSession.State.SELECT_CATEGORY, answered.get());
+            assertEquals(GameSession.State.SELECT_QUESTION, session.submit("1"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSessionStepsThroughTurns() throws Exception {
+        Game game = Game.newGame();
+        Category cat = new Category("G");
+        cat.addQuestion(Question.of("Q1", 100, "a", "b", "c", "d", "A"));
+        cat.addQuestion(Question.of("Q2", 200, "a", "b", "c", "d", "B"));
+        game.setLoaderFactory(() -> filename -> new GameData(List.of(cat)));
+        game.loadGame("unused");
+        game.addPlayer(new Player(1, "P1"));
+
+        GameSession session = new GameSession(game, GameOutput.NONE);
+        assertThrows(IllegalStateException.class, () -> session.submit("1"));
+        assertEquals(GameSession.State.SELECT_CATEGORY, session.start());
+
+        assertEquals(GameSession.State.SELECT_CATEGORY, session.submit("x"));
+        assertEquals(GameSession.State.SELECT_CATEGORY, session.submit("2"));
+        assertEquals(GameSession.State.SELECT_QUESTION, session.submit("1"));
+        assertEquals(GameSession.State.SELECT_QUESTION, session.submit("3"));
+        assertEquals(GameSession.State.ANSWER, session.submit("2"));
+        assertEquals(GameSession.State.ANSWER, session.submit("E"));
+        assertEquals(GameSession.State.SELECT_CATEGORY, session.submit("b"));
+        assertEquals(200, game.getPlayers().get(0).getScore());
+
+        assertEquals(GameSession.State.SELECT_QUESTION, session.submit("1"));
+        assertEquals(GameSession.State.SELECT_QUESTION, session.submit("2"), "Q2 is answered");
+        assertEquals(GameSession.State.ANSWER, session.submit("1"));
+        assertEquals(GameSession.State.FINISHED, session.submit("C"));
+        assertEquals(100, game.getPlayers().get(0).getScore());
+        assertTrue(game.getBoard().allQuestionsAnswered());
+        assertEquals(GameSession.State.FINISHED, session.submit("1"));
+    }
+
+    @Test
+    void testSessionsShareAFewThreads() throws Exception {
+        GameData data = new CSVLoader().load("sample_game_CSV.csv");
+        List<String> script = new ArrayList<>();
+        List<Category> categories = data.getCategories();
+        for (int c = 0; c < categories.size(); c++) {
+            List<Question> questions = categories.get(c).getQuestions();
+            for (int q = 0; q < questions.size(); q++) {
+                script.add(String.valueOf(c + 1));
+                script.add(String.valueOf(q + 1));
+                script.add(questions.get(q).getCorrectAnswer());
+            }
+        }
+
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Game game = Game.newGame();
+            game.setLoaderFactory(() -> filename -> data);
+            game.loadGame("unused");
+            game.addPlayer(new Player(1, "P1"));
+            game.addPlayer(new Player(2, "P2"));
+            GameSession session = new GameSession(game, GameOutput.NONE);
+            session.start();
+            sessions.add(session);
+        }
+
+        // every step submits one action to every session, spread over two threads
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (String action : script) {
+                List<Future<GameSession.State>> steps = new ArrayList<>();
+                for (GameSession session : sessions) {
+                    steps.add(executor.submit(() -> session.submit(action)));
+                }
+                for (Future<GameSession.State> step : steps) {
+                    step.get();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (GameSession session : sessions) {
+            assertTrue(session.isFinished());
+            List<Player> players = session.getGame().getPlayers();
+            assertEquals(totalPoints(data), players.get(0).getScore() + players.get(1).getScore());
+        }
+    }
+
+    private static int totalPoints(GameData data) {
+        int total = 0;
+        for (Category category : data.getCategories()) {
+            for (Question question : category.getQuestions()) {
+                total += question.getPoints();
+            }
+        }
+        return total;
+    }
 }
@@ -0,0 +1,130 @@
+package jeopardy_game;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HotReloadTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    private GameData data(String csvRows, Path dir) throws Exception {
+        Path file = Files.createTempFile(dir, "diff", ".csv");
+        Files.writeString(file, HEADER + csvRows);
+        return new MappedCSVLoader().load(file.toString());
+    }
+
+    @Test
+    void diffMatchesQuestionsByCategoryAndPoints(@TempDir Path dir) throws Exception {
+        GameData before = data("Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2,a,b,c,d,A\nArrays,100,Q3,a,b,c,d,A\n", dir);
+        GameData after = data("Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2 fixed,a,b,c,d,A\nLoops,300,Q4,a,b,c,d,B\n", dir);
+
+        BankDiff diff = BankDiff.compare(before, after);
+        assertEquals(List.of("Loops:300"), diff.getAdded());
+        assertEquals(List.of("Arrays:100"), diff.getRemoved());
+        assertEquals(List.of("Loops:200"), diff.getChanged());
+        assertEquals(1, diff.getUnchangedCount());
+        assertFalse(diff.isEmpty());
+        assertTrue(BankDiff.compare(before, before).isEmpty());
+    }
+
+    @Test
+    void diffSeesDuplicateValuesAndOrder(@TempDir Path dir) throws Exception {
+        GameData before = data("Loops,100,Q1,a,b,c,d,A\nLoops,100,Q2,a,b,c,d,A\nLoops,200,Q3,a,b,c,d,A\n", dir);
+        GameData edited = data("Loops,100,Q1,a,b,c,d,A\nLoops,100,Q2 fixed,a,b,c,d,A\nLoops,200,Q3,a,b,c,d,A\n", dir);
+        GameData reordered = data("Loops,200,Q3,a,b,c,d,A\nLoops,100,Q1,a,b,c,d,A\nLoops,100,Q2,a,b,c,d,A\n", dir);
+
+        BankDiff diff = BankDiff.compare(before, edited);
+        assertEquals(List.of("Loops:100#2"), diff.getChanged());
+        assertEquals(2, diff.getUnchangedCount());
+
+        diff = BankDiff.compare(before, reordered);
+        assertTrue(diff.isReordered());
+        assertEquals(3, diff.getUnchangedCount());
+        assertFalse(diff.isEmpty());
+        assertFalse(BankDiff.compare(before, before).isReordered());
+    }
+
+    @Test
+    void reloadSwapsSnapshotOnlyWhenQuestionsChange(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, HEADER + "Loops,100,Q1,a,b,c,d,A\n");
+
+        try (BankWatcher watcher = new BankWatcher()) {
+            GameData first = watcher.createLoader().load(file.toString());
+            GameBoard inProgress = new GameBoard(first);
+            Path key = file.toAbsolutePath().normalize();
+
+            assertNull(watcher.reload(key), "unchanged content keeps the snapshot");
+            assertSame(first, watcher.current(file));
+
+            // the watcher thread may notice the change as well; either way the result is the same
+            Files.writeString(file, HEADER + "Loops,100,Q1 fixed,a,b,c,d,A\n");
+            watcher.reload(key);
+
+            GameData second = watcher.createLoader().load(file.toString());
+            assertEquals("Q1 fixed", second.getCategories().get(0).getQuestions().get(0).getQuestionStr());
+            assertSame(first, inProgress.getGameData());
+            assertEquals("Q1", inProgress.getGameData().getCategories().get(0).getQuestions().get(0).getQuestionStr());
+
+            Files.writeString(file, HEADER + "Loops,not a number,Q1,a,b,c,d,A\n");
+            watcher.reload(key);
+            assertSame(second, watcher.current(file), "a broken file keeps the previous version");
+        }
+    }
+
+    @Test
+    void watcherPicksUpChangedFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, HEADER + "Loops,100,Q1,a,b,c,d,A\n");
+
+        try (BankWatcher watcher = new BankWatcher()) {
+            CountDownLatch reloaded = new CountDownLatch(1);
+            watcher.addListener((path, data, diff) -> reloaded.countDown());
+            watcher.watch(file.toString());
+
+            Files.writeString(file, HEADER + "Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2,a,b,c,d,B\n");
+
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS), "the change should be noticed");
+            assertEquals(2, watcher.current(file).getQuestionCount());
+        }
+    }
+
+    @Test
+    void watcherPicksUpFileEditedDuringFirstLoad(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, HEADER + "Loops,100,Q1,a,b,c,d,A\n");
+        CountDownLatch firstLoad = new CountDownLatch(1);
+
+        try (BankWatcher watcher = new BankWatcher(() -> filename -> {
+            GameData data = new MappedCSVLoader().load(filename);
+            if (firstLoad.getCount() > 0) {
+                firstLoad.countDown();
+                try {
+                    Files.writeString(file, HEADER + "Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2,a,b,c,d,B\n");
+                    Thread.sleep(2 * BankWatcher.SETTLE_MILLIS);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return data;
+        })) {
+            CountDownLatch reloaded = new CountDownLatch(1);
+            watcher.addListener((path, data, diff) -> reloaded.countDown());
+            assertEquals(1, watcher.watch(file.toString()).getQuestionCount());
+
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS), "the edit made while loading should be noticed");
+            assertEquals(2, watcher.current(file).getQuestionCount());
+        }
+    }
+}
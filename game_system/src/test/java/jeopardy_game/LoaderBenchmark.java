@@ -0,0 +1,209 @@
+package jeopardy_game;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+/**
+ * Compares load time, allocation and retained heap of the game loaders on synthetic banks.
+ * Not part of the test suite; after "mvn test-compile" run it with:
+ *
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; jeopardy_game.LoaderBenchmark 100000
+ *
+ * The first argument is the number of questions in each generated bank. The banks are
+ * written next to the test classes so the classpath-based loaders can find them.
+ */
+public class LoaderBenchmark {
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int questions = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        BankGenerator generator = new BankGenerator(questions, 50);
+        Path dir = classpathRoot();
+
+        generator.writeCSV(dir.resolve("bench_bank.csv"));
+        generator.writeJSON(dir.resolve("bench_bank.json"));
+        generator.writeXML(dir.resolve("bench_bank.xml"));
+        generator.writeGroupedCSV(dir.resolve("bench_archive.csv"));
+        new BankCompiler().compile(new MappedCSVLoader().load("bench_bank.csv"), dir.resolve("bench_bank.jqb"));
+
+        System.out.println("Loading " + questions + " questions per bank");
+        bench("CSVLoader (opencsv)", new CSVLoader(), "bench_bank.csv");
+        bench("CSVLoader (gzip)", new CSVLoader(), gzip(dir.resolve("bench_bank.csv")));
+        bench("MappedCSVLoader", new MappedCSVLoader(), "bench_bank.csv");
+        bench("ParallelCSVLoader", new ParallelCSVLoader(), "bench_bank.csv");
+        bench("LazyCSVLoader", new LazyCSVLoader(), "bench_bank.csv");
+        bench("JSON map binding (old)", LoaderBenchmark::loadJSONAsMaps, "bench_bank.json");
+        bench("JSONLoader (records)", new JSONLoader(), "bench_bank.json");
+        bench("StreamingJSONLoader", new StreamingJSONLoader(), "bench_bank.json");
+        bench("XML map binding (old)", LoaderBenchmark::loadXMLAsMaps, "bench_bank.xml");
+        bench("XMLLoader (records)", new XMLLoader(), "bench_bank.xml");
+        bench("StaxXMLLoader", new StaxXMLLoader(), "bench_bank.xml");
+        bench("BinaryLoader", new BinaryLoader(), "bench_bank.jqb");
+        bench("OffHeapLoader", new OffHeapLoader(), "bench_bank.jqb");
+        bench("MappedCSVLoader (grouped)", new MappedCSVLoader(), "bench_archive.csv");
+        bench("BoardSampler (grouped)", new BoardSampler(), "bench_archive.csv");
+
+        new BankGenerator(questions, Math.max(1, questions / 5)).writeCSV(dir.resolve("bench_valid.csv"));
+        benchValidation("BankValidator", "bench_valid.csv");
+
+        System.out.println("Loading the sample banks");
+        benchSmall("JSON map binding (old)", LoaderBenchmark::loadJSONAsMaps, "sample_game_JSON.json");
+        benchSmall("JSONLoader (records)", new JSONLoader(), "sample_game_JSON.json");
+        benchSmall("XML map binding (old)", LoaderBenchmark::loadXMLAsMaps, "sample_game_XML.xml");
+        benchSmall("XMLLoader (records)", new XMLLoader(), "sample_game_XML.xml");
+
+        StringDictionary csv = new StringDictionary();
+        new CSVLoader(csv).load("bench_bank.csv");
+        StringDictionary json = new StringDictionary();
+        new JSONLoader(json).load("bench_bank.json");
+        StringDictionary xml = new StringDictionary();
+        new XMLLoader(xml).load("bench_bank.xml");
+        System.out.println("CSVLoader  " + csv);
+        System.out.println("JSONLoader " + json);
+        System.out.println("XMLLoader  " + xml);
+    }
+
+    /** The JSONLoader of before the typed records: a new ObjectMapper per load, binding to maps. */
+    @SuppressWarnings("unchecked")
+    static GameData loadJSONAsMaps(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+        try {
+            List<Map<String, Object>> data = new ObjectMapper().readValue(BankFiles.open(filename), List.class);
+            for (Map<String, Object> row : data) {
+                builder.addQuestion((String) row.get("Category"), builder.question((String) row.get("Question"),
+                        (int) row.get("Value"), (Map<String, String>) row.get("Options"), (String) row.get("CorrectAnswer")));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return builder.build();
+    }
+
+    /** The XMLLoader of before the typed records: a new XmlMapper per load, binding to maps. */
+    @SuppressWarnings("unchecked")
+    static GameData loadXMLAsMaps(String filename) {
+        GameDataBuilder builder = new GameDataBuilder();
+        try {
+            Map<String, Object> root = new XmlMapper().readValue(BankFiles.open(filename), Map.class);
+            for (Map<String, Object> row : (List<Map<String, Object>>) root.get("QuestionItem")) {
+                Map<String, Object> options = (Map<String, Object>) row.get("Options");
+                builder.addQuestion((String) row.get("Category"), builder.question((String) row.get("QuestionText"),
+                        Integer.parseInt(row.get("Value").toString()), (String) options.get("OptionA"),
+                        (String) options.get("OptionB"), (String) options.get("OptionC"),
+                        (String) options.get("OptionD"), (String) row.get("CorrectAnswer")));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return builder.build();
+    }
+
+    /** Writes a gzip-compressed copy of a bank next to it and returns the copy's name. */
+    static String gzip(Path bank) throws IOException {
+        Path compressed = bank.resolveSibling(bank.getFileName() + ".gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+            Files.copy(bank, out);
+        }
+        System.out.printf("%s: %.1f MB, gzip %.1f MB%n", bank.getFileName(),
+                Files.size(bank) / 1e6, Files.size(compressed) / 1e6);
+        return compressed.getFileName().toString();
+    }
+
+    static void bench(String label, GameLoader loader, String resource) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            loader.load(resource);
+        }
+
+        long total = 0;
+        long allocated = 0;
+        long retained = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long before = usedHeap();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            GameData data = loader.load(resource);
+            total += System.nanoTime() - start;
+            allocated += allocatedBytes() - allocatedBefore;
+            retained = usedHeap() - before;
+            if (data.getCategories().isEmpty()) {
+                throw new IllegalStateException("Nothing loaded from " + resource);
+            }
+        }
+
+        System.out.printf("%-28s %8.1f ms/load %8.1f MB allocated %8.1f MB retained%n",
+                label, total / 1e6 / MEASURED_RUNS,
+                allocated / (1024.0 * 1024.0) / MEASURED_RUNS, retained / (1024.0 * 1024.0));
+    }
+
+    /** Bytes allocated so far by the calling thread, or 0 where the JVM does not report it. */
+    /** Times validating a bank against reading all of its bytes once. */
+    static void benchValidation(String label, String resource) throws IOException {
+        BankValidator validator = new BankValidator();
+        Path file = BankFiles.resolve(resource);
+        long read = 0;
+        long validate = 0;
+        long lines = 0;
+        int issues = 0;
+        for (int i = 0; i < WARMUP_RUNS + MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            java.nio.ByteBuffer buffer = MappedCSVLoader.map(file);
+            lines = 0;
+            for (int pos = 0; pos < buffer.limit(); pos++) {
+                if (buffer.get(pos) == '\n') {
+                    lines++;
+                }
+            }
+            long afterRead = System.nanoTime();
+            issues = validator.validate(resource).getIssues().size();
+            if (i >= WARMUP_RUNS) {
+                read += afterRead - start;
+                validate += System.nanoTime() - afterRead;
+            }
+        }
+        System.out.printf("%-28s %8.1f ms/check %8.1f ms/plain read (%d lines, %d issues)%n",
+                label, validate / 1e6 / MEASURED_RUNS, read / 1e6 / MEASURED_RUNS, lines, issues);
+    }
+
+    /** Times many loads of a small bank, where the fixed cost of each load dominates. */
+    static void benchSmall(String label, GameLoader loader, String resource) {
+        int loads = 2000;
+        for (int i = 0; i < loads; i++) {
+            loader.load(resource);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < loads; i++) {
+            loader.load(resource);
+        }
+        System.out.printf("%-28s %8.1f us/load%n", label, (System.nanoTime() - start) / 1e3 / loads);
+    }
+
+    static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    static Path classpathRoot() throws Exception {
+        return Path.of(LoaderBenchmark.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+}
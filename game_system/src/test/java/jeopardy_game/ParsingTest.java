@@ -1,11 +1,27 @@
 package jeopardy_game;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ParsingTest {
 
@@ -83,4 +99,441 @@ public class ParsingTest {
         assertEquals("Which data type is used to store a single character?", q200.getQuestionStr());
         assertEquals("B", q200.getCorrectAnswer());
     }
+
+    @Test
+    void streamingJsonLoader_resourceNotFound_throws() {
+        StreamingJSONLoader loader = new StreamingJSONLoader();
+        assertThrows(RuntimeException.class, () -> loader.load("nonexistent_file.json"));
+    }
+
+    @Test
+    void streamingJsonLoaderMatchesJsonLoader() {
+        GameData expected = new JSONLoader().load("sample_game_JSON.json");
+        GameData data = new StreamingJSONLoader().load("sample_game_JSON.json");
+        assertSameGameData(expected, data);
+    }
+
+    @Test
+    void staxXmlLoader_resourceNotFound_throws() {
+        StaxXMLLoader loader = new StaxXMLLoader();
+        assertThrows(RuntimeException.class, () -> loader.load("nonexistent_file.xml"));
+    }
+
+    @Test
+    void staxXmlLoaderMatchesXmlLoader() {
+        GameData expected = new XMLLoader().load("sample_game_XML.xml");
+        GameData data = new StaxXMLLoader().load("sample_game_XML.xml");
+        assertSameGameData(expected, data);
+    }
+
+    @Test
+    void mappedCsvLoader_resourceNotFound_throws() {
+        MappedCSVLoader loader = new MappedCSVLoader();
+        assertThrows(RuntimeException.class, () -> loader.load("nonexistent_file.csv"));
+    }
+
+    @Test
+    void mappedCsvLoaderMatchesCsvLoader() {
+        GameData expected = new CSVLoader().load("sample_game_CSV.csv");
+        GameData data = new MappedCSVLoader().load("sample_game_CSV.csv");
+        assertSameGameData(expected, data);
+    }
+
+    @Test
+    void lazyCsvLoaderMatchesCsvLoader() {
+        GameData expected = new CSVLoader().load("sample_game_CSV.csv");
+        GameData data = new LazyCSVLoader(1).load("sample_game_CSV.csv");
+        // with a one-entry cache every comparison below re-reads a body from the file
+        assertSameGameData(expected, data);
+
+        Question q = data.getCategories().get(0).getQuestions().get(0);
+        Question e = expected.getCategories().get(0).getQuestions().get(0);
+        assertTrue(q.checkAnswer(e.getCorrectAnswer()));
+        assertTrue(q.hasOption("A"));
+    }
+
+    @Test
+    void lazyCsvLoaderChecksRowsAtLoadTime(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("short_row.csv");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Loops,100,Q,a,b,c,d,A\n\nLoops,200,Q\n");
+        assertThrows(RuntimeException.class, () -> new LazyCSVLoader().load(file.toString()));
+    }
+
+    @Test
+    void mappedCsvLoaderHandlesQuotesAndLineEndings(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("quoted.csv");
+        Files.writeString(file,
+                "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\r\n"
+                + " Strings , 100 ,\"Which prints \"\"a, b\"\"?\",\"cout << \"\"a, b\"\";\",x,\"multi\nline\",z,B\r\n"
+                + "\r\n"
+                + "Strings,200,Plain?,a,b,c,d,A");
+
+        GameData data = new MappedCSVLoader().load(file.toString());
+
+        assertEquals(1, data.getCategories().size());
+        Category c = data.getCategories().get(0);
+        assertEquals("Strings", c.getName());
+        assertEquals(2, c.getQuestions().size());
+
+        Question q = c.getQuestions().get(0);
+        assertEquals(100, q.getPoints());
+        assertEquals("Which prints \"a, b\"?", q.getQuestionStr());
+        assertEquals("cout << \"a, b\";", q.getOptions().get("A"));
+        assertEquals("multi\nline", q.getOptions().get("C"));
+        assertEquals("B", q.getCorrectAnswer());
+        assertEquals("A", c.getQuestions().get(1).getCorrectAnswer());
+    }
+
+    @Test
+    void mappedCsvLoaderRejectsNonNumericValue(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bad.csv");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Strings,lots,Q,a,b,c,d,A\n");
+        assertThrows(RuntimeException.class, () -> new MappedCSVLoader().load(file.toString()));
+    }
+
+    @Test
+    void parallelCsvLoaderKeepsSerialOrder(@TempDir Path dir) throws Exception {
+        Path file = new BankGenerator(2000, 7).writeCSV(dir.resolve("large.csv"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GameData expected = new MappedCSVLoader().load(file.toString());
+            GameData data = new ParallelCSVLoader(pool, 512).load(file.toString());
+            assertSameGameData(expected, data);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelCsvLoaderSplitsOutsideQuotedLineBreaks(@TempDir Path dir) throws Exception {
+        StringBuilder csv = new StringBuilder("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append("Cat ").append(i % 3).append(',').append(i)
+                    .append(",\"line one\nline \"\"two\"\"\n").append(i).append("\",a,b,\"c\nc\",d,A\n");
+        }
+        Path file = dir.resolve("multiline.csv");
+        Files.writeString(file, csv.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            GameData expected = new MappedCSVLoader().load(file.toString());
+            GameData data = new ParallelCSVLoader(pool, 64).load(file.toString());
+            assertSameGameData(expected, data);
+            assertEquals(300, data.getCategories().stream().mapToInt(c -> c.getQuestions().size()).sum());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void binaryLoaderRoundTripsCompiledBank(@TempDir Path dir) throws Exception {
+        GameData expected = new XMLLoader().load("sample_game_XML.xml");
+        Path file = dir.resolve("sample.jqb");
+        new BankCompiler().compile(expected, file);
+
+        GameData data = new BinaryLoader().load(file.toString());
+        assertSameGameData(expected, data);
+    }
+
+    @Test
+    void offHeapLoaderReadsCompiledBank(@TempDir Path dir) throws Exception {
+        GameData expected = new CSVLoader().load("sample_game_CSV.csv");
+        Path file = dir.resolve("sample.jqb");
+        new BankCompiler().compile(expected, file);
+
+        GameData data = new OffHeapLoader().load(file.toString());
+        assertSameGameData(expected, data);
+        assertEquals(expected.getQuestionCount(), data.getQuestionCount());
+
+        Category first = expected.getCategories().get(0);
+        Category category = data.getCategory(first.getName());
+        assertEquals(data.getCategories().get(0), category);
+        assertEquals(first.getQuestions().get(0).getQuestionStr(),
+                data.getQuestion(category, first.getQuestions().get(0).getPoints()).getQuestionStr());
+        assertNull(data.getCategory("No such category"));
+    }
+
+    @Test
+    void offHeapQuestionsHaveOnlyTheOptionsInTheBank(@TempDir Path dir) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("A", "a");
+        options.put("B", "b");
+        options.put("C", "c");
+        Category category = new Category("Loops");
+        category.addQuestion(new Question("Q", 100, options, "A"));
+        Path file = dir.resolve("three_options.jqb");
+        new BankCompiler().compile(new GameData(List.of(category)), file);
+
+        Question question = new OffHeapLoader().load(file.toString()).getCategories().get(0).getQuestions().get(0);
+        assertTrue(question.hasOption("C"));
+        assertFalse(question.hasOption("D"));
+        assertFalse(question.hasOption("E"));
+    }
+
+    @Test
+    void binaryLoaderRejectsFilesThatAreNotBanks(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("not_a_bank.jqb");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        assertThrows(RuntimeException.class, () -> new BinaryLoader().load(file.toString()));
+    }
+
+    @Test
+    void builderSharesRepeatedStrings() {
+        StringDictionary dictionary = new StringDictionary();
+        GameDataBuilder builder = new GameDataBuilder(dictionary);
+        Question first = builder.question("Q1", 100, "True", "False", "Maybe", new String("None of the above"), "A");
+        Question second = builder.question("Q2", 200, new String("True"), "False", "Never", new String("None of the above"), "B");
+
+        assertSame(first.getOptions().get("A"), second.getOptions().get("A"));
+        assertSame(first.getOptions().get("D"), second.getOptions().get("D"));
+        assertEquals(3, dictionary.getHitCount());
+        assertTrue(dictionary.getBytesSaved() > 0);
+    }
+
+    @Test
+    void dictionaryKeepsOnlyShortStringsUpToItsSize() {
+        StringDictionary dictionary = new StringDictionary(8, 2);
+        String longText = "A long option text that will not repeat";
+        assertSame(longText, dictionary.intern(longText));
+        assertEquals(0, dictionary.getLookupCount());
+
+        String yes = dictionary.intern("Yes");
+        dictionary.intern("No");
+        dictionary.intern("Maybe");
+        assertEquals(2, dictionary.size());
+        assertSame(yes, dictionary.intern(new String("Yes")));
+        String maybe = new String("Maybe");
+        assertSame(maybe, dictionary.intern(maybe));
+    }
+
+    @Test
+    void loaderReportsDictionaryStatistics() {
+        StringDictionary dictionary = new StringDictionary();
+        new CSVLoader(dictionary).load("sample_game_CSV.csv");
+
+        assertTrue(dictionary.getLookupCount() > 0);
+        assertTrue(dictionary.getHitCount() > 0);
+        assertEquals(dictionary.getLookupCount(), dictionary.size() + dictionary.getHitCount());
+    }
+
+    @Test
+    void loadersFallBackToTheFilesystem(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.json");
+        Files.writeString(file, "[{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q\", "
+                + "\"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"A\"}]");
+
+        assertSameGameData(new JSONLoader().load(file.toString()), new StreamingJSONLoader().load(file.toString()));
+        assertEquals("Loops", new JSONLoader().load(file.toString()).getCategories().get(0).getName());
+    }
+
+    @Test
+    void streamingJsonLoaderRejectsWhatJsonLoaderRejects(@TempDir Path dir) throws Exception {
+        String item = "{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q\", "
+                + "\"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"A\"}";
+        String[] banks = {
+                "[" + item + ", 42, " + item + "]",
+                "[" + item + ", " + item,
+                "[" + item.replace("\"Value\": 100, ", "") + "]",
+        };
+
+        for (int i = 0; i < banks.length; i++) {
+            Path file = dir.resolve("bank" + i + ".json");
+            Files.writeString(file, banks[i]);
+            assertThrows(RuntimeException.class, () -> new JSONLoader().load(file.toString()));
+            assertThrows(RuntimeException.class, () -> new StreamingJSONLoader().load(file.toString()));
+        }
+    }
+
+    @Test
+    void compositeLoaderMergesBanksInPathOrder(@TempDir Path dir) throws Exception {
+        String header = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+        Files.writeString(dir.resolve("b_topic.csv"), header + "Arrays,100,Q3,a,b,c,d,A\nLoops,300,Q4,a,b,c,d,B\n");
+        Files.writeString(dir.resolve("a_topic.csv"), header + "Loops,100,Q1,a,b,c,d,A\nLoops,200,Q2,a,b,c,d,C\n");
+        Files.writeString(dir.resolve("README.txt"), "not a bank");
+
+        for (int threads : new int[] {1, 4}) {
+            GameData data = new CompositeLoader(threads).load(dir.toString());
+            assertEquals(2, data.getCategories().size());
+            assertEquals("Loops", data.getCategories().get(0).getName());
+            assertEquals("Arrays", data.getCategories().get(1).getName());
+            assertEquals(List.of(100, 200, 300), data.getCategories().get(0).getQuestions().stream()
+                    .map(Question::getPoints).collect(java.util.stream.Collectors.toList()));
+        }
+
+        GameData onlyB = new CompositeLoader().load(dir.resolve("b_*.csv").toString());
+        assertEquals("Arrays", onlyB.getCategories().get(0).getName());
+        assertThrows(RuntimeException.class, () -> new CompositeLoader().load(dir.resolve("*.xml").toString()));
+    }
+
+    @Test
+    void compositeLoaderFailsWhenAnyBankFails(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("good.csv"), "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n"
+                + "Loops,100,Q1,a,b,c,d,A\n");
+        Files.writeString(dir.resolve("bad.json"), "{ not json");
+        assertThrows(RuntimeException.class, () -> new CompositeLoader(2).load(dir.toString()));
+    }
+
+    @Test
+    void factoryIsChosenByExtension() {
+        assertEquals(CSVLoaderFactory.class, GameLoaderFactory.forFile("bank.csv").getClass());
+        assertEquals(JSONLoaderFactory.class, GameLoaderFactory.forFile("bank.json").getClass());
+        assertEquals(XMLLoaderFactory.class, GameLoaderFactory.forFile("bank.xml").getClass());
+        assertEquals(BinaryLoaderFactory.class, GameLoaderFactory.forFile("bank.jqb").getClass());
+        assertThrows(IllegalArgumentException.class, () -> GameLoaderFactory.forFile("bank.txt"));
+        assertEquals(CSVLoaderFactory.class, GameLoaderFactory.forFile("bank.csv.gz").getClass());
+        assertEquals(XMLLoaderFactory.class, GameLoaderFactory.forFile("bank.xml.gz").getClass());
+        assertThrows(IllegalArgumentException.class, () -> GameLoaderFactory.forFile("bank.jqb.gz"));
+    }
+
+    @Test
+    void compressedBanksAreDecompressedWhileLoading(@TempDir Path dir) throws Exception {
+        for (String resource : new String[] {"sample_game_CSV.csv", "sample_game_JSON.json", "sample_game_XML.xml"}) {
+            Path file = dir.resolve(resource + ".gz");
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                in.transferTo(out);
+            }
+
+            GameData expected = GameLoaderFactory.forFile(resource).createLoader().load(resource);
+            GameData data = GameLoaderFactory.forFile(file.toString()).createLoader().load(file.toString());
+            assertSameGameData(expected, data);
+        }
+
+        assertSameGameData(new StaxXMLLoader().load("sample_game_XML.xml"),
+                new StaxXMLLoader().load(dir.resolve("sample_game_XML.xml.gz").toString()));
+    }
+
+    @Test
+    void boardSamplerPicksCompleteCategoriesInOnePass(@TempDir Path dir) throws Exception {
+        StringBuilder csv = new StringBuilder("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for (int c = 0; c < 20; c++) {
+            for (int points = 100; points <= 500; points += 100) {
+                if (c == 3 && points == 500) {
+                    continue;
+                }
+                csv.append("Topic ").append(c).append(',').append(points).append(",Q").append(c).append('-').append(points)
+                        .append("a,a,b,c,d,A\n").append("Topic ").append(c).append(',').append(points)
+                        .append(",Q").append(c).append('-').append(points).append("b,a,b,c,d,B\n");
+            }
+            csv.append("Topic ").append(c).append(",900,Off the board,a,b,c,d,C\n");
+        }
+        Path file = dir.resolve("archive.csv");
+        Files.writeString(file, csv);
+
+        Set<String> everPicked = new HashSet<>();
+        for (int seed = 0; seed < 200; seed++) {
+            GameData board = new BoardSampler(null, 6, new int[] {100, 200, 300, 400, 500}, new Random(seed))
+                    .load(file.toString());
+            assertEquals(6, board.getCategories().size());
+
+            int previous = -1;
+            for (Category category : board.getCategories()) {
+                int index = Integer.parseInt(category.getName().substring("Topic ".length()));
+                assertTrue(index > previous, "categories keep their bank order");
+                previous = index;
+                everPicked.add(category.getName());
+
+                assertEquals(List.of(100, 200, 300, 400, 500), category.getQuestions().stream()
+                        .map(Question::getPoints).collect(java.util.stream.Collectors.toList()));
+            }
+        }
+        assertEquals(19, everPicked.size(), "every complete category can be picked");
+        assertTrue(!everPicked.contains("Topic 3"), "incomplete categories are never picked");
+
+        GameData sample = new BoardSampler(new StaxXMLLoader(), 10, new int[] {100, 300}, new Random(1))
+                .load("sample_game_XML.xml");
+        assertEquals(new StaxXMLLoader().load("sample_game_XML.xml").getCategories().size(), sample.getCategories().size());
+    }
+
+    @Test
+    void boardSamplerIsRepeatableWithASeed(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.json.gz");
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("sample_game_JSON.json");
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            in.transferTo(out);
+        }
+
+        int[] values = {100, 200, 300, 400, 500};
+        GameData first = new BoardSampler(null, 3, values, new Random(42)).load(file.toString());
+        GameData second = new BoardSampler(null, 3, values, new Random(42)).load(file.toString());
+        assertEquals(3, first.getCategories().size());
+        assertSameGameData(first, second);
+        assertThrows(IllegalArgumentException.class, () -> new BoardSampler(null, 6, new int[] {100, 100}, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new BoardSampler().load("bank.jqb"));
+    }
+
+    @Test
+    void jsonLoaderBindsItemsToRecords(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.json");
+        Files.writeString(file, "[{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q1\", \"Author\": \"ignored\", "
+                + "\"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"B\"},"
+                + "{\"Category\": \"Loops\", \"Value\": 200, \"Question\": \"Q2\", "
+                + "\"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\", \"E\": \"e\"}, \"CorrectAnswer\": \"E\"}]");
+
+        List<Question> questions = new JSONLoader().load(file.toString()).getCategories().get(0).getQuestions();
+        assertEquals("B", questions.get(0).getCorrectAnswer());
+        assertEquals(5, questions.get(1).getOptions().size());
+        assertTrue(questions.get(1).checkAnswer("E"));
+
+        Files.writeString(file, "[{\"Category\": \"Loops\", \"Question\": \"Q\", \"CorrectAnswer\": \"A\"}]");
+        assertThrows(RuntimeException.class, () -> new JSONLoader().load(file.toString()), "Value is required");
+    }
+
+    @Test
+    void xmlLoaderBindsItemsToRecords(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.xml");
+        Files.writeString(file, "<JeopardyQuestions><QuestionItem><Category>Loops</Category><Value> 300 </Value>"
+                + "<QuestionText>Q</QuestionText><Options><OptionA>a</OptionA><OptionB>b</OptionB>"
+                + "<OptionC>c</OptionC><OptionD>d</OptionD></Options><CorrectAnswer>C</CorrectAnswer>"
+                + "<Notes>ignored</Notes></QuestionItem></JeopardyQuestions>");
+
+        GameData data = new XMLLoader().load(file.toString());
+        assertEquals(1, data.getQuestionCount(), "a bank with a single item is still a list");
+        assertEquals(300, data.getCategories().get(0).getQuestions().get(0).getPoints());
+        assertEquals("c", data.getCategories().get(0).getQuestions().get(0).getOptions().get("C"));
+    }
+
+    @Test
+    void databindLoadersCanBeSharedBetweenThreads() throws Exception {
+        JSONLoader json = new JSONLoader();
+        XMLLoader xml = new XMLLoader();
+        GameData expectedJson = json.load("sample_game_JSON.json");
+        GameData expectedXml = xml.load("sample_game_XML.xml");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<GameData[]> loads = pool.submit(() -> java.util.stream.IntStream.range(0, 16).parallel()
+                    .mapToObj(i -> new GameData[] {json.load("sample_game_JSON.json"), xml.load("sample_game_XML.xml")})
+                    .collect(java.util.stream.Collectors.toList())).get();
+            for (GameData[] load : loads) {
+                assertSameGameData(expectedJson, load[0]);
+                assertSameGameData(expectedXml, load[1]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void assertSameGameData(GameData expected, GameData data) {
+        List<Category> categories = data.getCategories();
+        assertEquals(expected.getCategories().size(), categories.size());
+
+        for (int i = 0; i < categories.size(); i++) {
+            Category e = expected.getCategories().get(i);
+            Category c = categories.get(i);
+            assertEquals(e.getName(), c.getName());
+            assertEquals(e.getQuestions().size(), c.getQuestions().size());
+
+            for (int j = 0; j < c.getQuestions().size(); j++) {
+                Question eq = e.getQuestions().get(j);
+                Question q = c.getQuestions().get(j);
+                assertEquals(eq.getQuestionStr(), q.getQuestionStr());
+                assertEquals(eq.getPoints(), q.getPoints());
+                assertEquals(eq.getOptions(), q.getOptions());
+                assertEquals(eq.getCorrectAnswer(), q.getCorrectAnswer());
+            }
+        }
+    }
 }
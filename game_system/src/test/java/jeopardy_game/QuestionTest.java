@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class QuestionTest {
@@ -23,28 +24,6 @@ public class QuestionTest {
         assertEquals(options, q.getOptions());
         assertEquals("A", q.getCorrectAnswer());
         assertEquals(100, q.getPoints());
-        assertFalse(q.isAnswered(), "New questions should not be answered by default");
-    }
-
-    @Test
-    void answeredFlagOnlySetter() {
-        Map<String, String> options = new HashMap<>();
-        options.put("A", "string");
-        options.put("B", "char");
-        options.put("C", "bool");
-        options.put("D", "text");
-
-        Question q = new Question("Which data type is used to store a single character?", 200, options, "B");
-
-        // only answered flag has a setter; ensure it works and other fields remain as constructed
-        assertFalse(q.isAnswered());
-        q.setAnswered(true);
-        assertTrue(q.isAnswered());
-
-        assertEquals("Which data type is used to store a single character?", q.getQuestionStr());
-        assertEquals(options, q.getOptions());
-        assertEquals("B", q.getCorrectAnswer());
-        assertEquals(200, q.getPoints());
     }
 
     @Test
@@ -86,19 +65,65 @@ public class QuestionTest {
     }
 
     @Test
-    void settersHandleNullAndNegativePoints() {
-        // Only answered flag is mutable via setter; test it and that fields remain otherwise immutable
+    void answeredStateIsKeptByTheBoardNotTheQuestion() {
         Map<String, String> options = new HashMap<>();
         options.put("A", "A");
         Question q = new Question("Q", 100, options, "A");
+        Category category = new Category("General");
+        category.addQuestion(q);
+        GameBoard first = new GameBoard(new GameData(List.of(category)));
+        GameBoard second = new GameBoard(new GameData(List.of(category)));
 
-        q.setAnswered(true);
-        assertTrue(q.isAnswered());
+        first.markAnswered(q);
+        assertTrue(first.isAnswered(q));
+        assertFalse(second.isAnswered(q));
 
-        // other fields should remain as constructed
+        // the question itself is unchanged
         assertEquals("Q", q.getQuestionStr());
         assertEquals(options, q.getOptions());
         assertEquals("A", q.getCorrectAnswer());
         assertEquals(100, q.getPoints());
     }
+
+    @Test
+    void compactQuestionBehavesLikeMapQuestion() {
+        Map<String, String> options = new HashMap<>();
+        options.put("A", "int num");
+        options.put("B", "float num");
+        options.put("C", "num int");
+        options.put("D", "integer num");
+
+        Question q = Question.of("Which declares an integer?", 100, options, "b");
+
+        assertEquals(options, q.getOptions());
+        assertEquals("float num", q.getOptions().get("B"));
+        assertNull(q.getOptions().get("E"));
+        assertEquals("B", q.getCorrectAnswer());
+        assertTrue(q.checkAnswer("B"));
+        assertTrue(q.checkAnswer("b"));
+        assertTrue(q.checkAnswer(1));
+        assertFalse(q.checkAnswer("A"));
+        assertFalse(q.checkAnswer("BB"));
+        assertFalse(q.checkAnswer(""));
+        assertTrue(q.hasOption("D"));
+        assertFalse(q.hasOption("E"));
+        assertThrows(UnsupportedOperationException.class, () -> q.getOptions().put("A", "x"));
+    }
+
+    @Test
+    void unusualAnswersKeepTheMapForm() {
+        Question q = Question.of("Q", 100, "a", "b", "c", "d", "Water");
+
+        assertEquals("Water", q.getCorrectAnswer());
+        assertTrue(q.checkAnswer("water"));
+        assertEquals(4, q.getOptions().size());
+        assertEquals("c", q.getOptions().get("C"));
+    }
+
+    @Test
+    void compactConstructorRejectsBadIndex() {
+        assertThrows(IllegalArgumentException.class, () -> new Question("Q", 100, new String[] {"a", "b"}, 2));
+        assertEquals(-1, Question.optionIndex("Z"));
+        assertEquals(2, Question.optionIndex("c"));
+    }
 }
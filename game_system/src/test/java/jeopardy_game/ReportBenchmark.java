@@ -0,0 +1,73 @@
+package jeopardy_game;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how report generation scales with the size of the board.
+ * Every question on the board gets one "Score Updated" event, so with linear
+ * category and question lookups the time per event grows with the board, while
+ * with indexed lookups it stays flat. Not part of the test suite; after
+ * "mvn test-compile" run it with:
+ *
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; jeopardy_game.ReportBenchmark
+ */
+public class ReportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int[] categoryCounts = {100, 1_000, 10_000};
+        for (int categories : categoryCounts) {
+            bench(categories, 5);
+        }
+        new File("game_report.txt").delete();
+    }
+
+    static void bench(int categoryCount, int questionsPerCategory) throws Exception {
+        List<Category> categories = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        for (int c = 0; c < categoryCount; c++) {
+            Category category = new Category("Category " + c);
+            for (int q = 1; q <= questionsPerCategory; q++) {
+                Map<String, String> options = new HashMap<>();
+                options.put("A", "Yes");
+                options.put("B", "No");
+                category.addQuestion(new Question("Question " + c + "/" + q, q * 100, options, "A"));
+                events.add(new Event.Builder("bench", "Alice", "Score Updated", "now")
+                        .category(category.getName())
+                        .questionValue(q * 100)
+                        .answerGiven("A")
+                        .result("Correct")
+                        .scoreAfterPlay(q * 100)
+                        .build());
+            }
+            categories.add(category);
+        }
+
+        Game game = newGame();
+        game.addPlayer(new Player(0, "Alice"));
+        Field board = Game.class.getDeclaredField("board");
+        board.setAccessible(true);
+        board.set(game, new GameBoard(new GameData(categories)));
+
+        Report report = new Report();
+        report.generate(game, events);
+
+        long start = System.nanoTime();
+        report.generate(game, events);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%,7d categories, %,8d events: %8.1f ms total, %6.2f us/event%n",
+                categoryCount, events.size(), elapsed / 1e6, elapsed / 1e3 / events.size());
+    }
+
+    static Game newGame() throws Exception {
+        Field instance = Game.class.getDeclaredField("gameInstance");
+        instance.setAccessible(true);
+        instance.set(null, null);
+        return Game.getGame();
+    }
+}
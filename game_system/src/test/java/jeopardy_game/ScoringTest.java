@@ -76,10 +76,10 @@ public class ScoringTest {
         if (questionFound.checkAnswer("A")) {
             game.getCurrentPlayer().addPoints(questionFound.getPoints());
         }
-        questionFound.setAnswered(true);
+        game.getBoard().markAnswered(questionFound);
 
         assertEquals(100, player.getScore());
-        assertTrue(questionFound.isAnswered());
+        assertTrue(game.getBoard().isAnswered(questionFound));
     }
 
     @Test
@@ -116,9 +116,9 @@ public class ScoringTest {
         if (!questionFound.checkAnswer("B")) {
             game.getCurrentPlayer().subtractPoints(questionFound.getPoints());
         }
-        questionFound.setAnswered(true);
+        game.getBoard().markAnswered(questionFound);
 
         assertEquals(-200, player.getScore());
-        assertTrue(questionFound.isAnswered());
+        assertTrue(game.getBoard().isAnswered(questionFound));
     }
 }
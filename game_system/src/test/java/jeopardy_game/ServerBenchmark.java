@@ -0,0 +1,79 @@
+package jeopardy_game;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load-tests GameServer on localhost with many simulated tables.
+ * All tables connect and set up their players first, so they are all waiting for
+ * their first category at the same time; then every table plays a full game.
+ * Reports the threads and heap held by the waiting tables and the time to play
+ * all games. Not part of the test suite; after "mvn test-compile" run it with:
+ *
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; jeopardy_game.ServerBenchmark [tables]
+ */
+public class ServerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        GameData data = new CSVLoader().load("sample_game_CSV.csv");
+        String script = ServerTest.tableScript(data);
+        String setup = "2\nP1\nP2\n";
+        byte[] turns = script.substring(setup.length()).getBytes(StandardCharsets.UTF_8);
+
+        try (GameServer server = new GameServer("sample_game_CSV.csv")) {
+            server.start(0, InetAddress.getLoopbackAddress());
+            System.out.println("Tables on " + (server.usesVirtualThreads() ? "virtual" : "platform") + " threads");
+
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+            long heapBefore = usedHeap();
+            long start = System.nanoTime();
+
+            List<Socket> sockets = new ArrayList<>();
+            for (int i = 0; i < tables; i++) {
+                Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                socket.getOutputStream().write(setup.getBytes(StandardCharsets.UTF_8));
+                sockets.add(socket);
+            }
+            while (server.getTableCount() < tables) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(500);
+            long connected = System.nanoTime();
+
+            int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+            long heap = usedHeap() - heapBefore;
+            System.out.printf("%d tables connected in %d ms: %d threads, %d KB heap per table%n",
+                    tables, (connected - start) / 1_000_000, threads, heap / tables / 1024);
+
+            int finished = 0;
+            for (Socket socket : sockets) {
+                socket.getOutputStream().write(turns);
+            }
+            for (Socket socket : sockets) {
+                if (ServerTest.readAll(socket).contains("Game Over!")) {
+                    finished++;
+                }
+                socket.close();
+            }
+            long played = System.nanoTime();
+
+            System.out.printf("%d of %d games played in %d ms (%.0f games/s, %d actions each)%n",
+                    finished, tables, (played - connected) / 1_000_000,
+                    tables / ((played - connected) / 1e9), data.getQuestionCount() * 3);
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
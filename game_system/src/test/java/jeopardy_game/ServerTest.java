@@ -0,0 +1,205 @@
+package jeopardy_game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ServerTest {
+
+    /**
+     * Builds the input of a two-player table that answers every question correctly, in board order.
+     */
+    static String tableScript(GameData data) {
+        StringBuilder script = new StringBuilder("2\nP1\nP2\n");
+        List<Category> categories = data.getCategories();
+        for (int c = 0; c < categories.size(); c++) {
+            List<Question> questions = categories.get(c).getQuestions();
+            for (int q = 0; q < questions.size(); q++) {
+                script.append(c + 1).append('\n').append(q + 1).append('\n')
+                        .append(questions.get(q).getCorrectAnswer()).append('\n');
+            }
+        }
+        return script.toString();
+    }
+
+    static String readAll(Socket socket) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        socket.getInputStream().transferTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void awaitNoTables(GameTransport server) throws InterruptedException {
+        for (int i = 0; i < 500 && server.getTableCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, server.getTableCount());
+    }
+
+    private static void playTables(GameTransport server) throws Exception {
+        GameData data = new CSVLoader().load("sample_game_CSV.csv");
+        byte[] script = tableScript(data).getBytes(StandardCharsets.UTF_8);
+        int total = 0;
+        for (Category category : data.getCategories()) {
+            for (Question question : category.getQuestions()) {
+                total += question.getPoints();
+            }
+        }
+
+        try (server) {
+            server.start(0, InetAddress.getLoopbackAddress());
+
+            List<Socket> sockets = new ArrayList<>();
+            try {
+                for (int i = 0; i < 200; i++) {
+                    Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                    sockets.add(socket);
+                    socket.getOutputStream().write(script);
+                }
+
+                for (Socket socket : sockets) {
+                    String transcript = readAll(socket);
+                    assertTrue(transcript.startsWith("Enter number of players (1-4): "));
+                    assertTrue(transcript.contains("Game Over!"));
+                    int p1 = score(transcript, "P1");
+                    int p2 = score(transcript, "P2");
+                    assertEquals(total, p1 + p2);
+                }
+            } finally {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+            awaitNoTables(server);
+        }
+    }
+
+    private static void disconnectEndsTable(GameTransport server) throws Exception {
+        try (server) {
+            server.start(0, InetAddress.getLoopbackAddress());
+
+            try (Socket setup = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                 Socket playing = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                setup.getOutputStream().write("2\n".getBytes(StandardCharsets.UTF_8));
+                OutputStream out = playing.getOutputStream();
+                out.write("1\nSolo\n1\n1\n".getBytes(StandardCharsets.UTF_8));
+
+                InputStream in = playing.getInputStream();
+                String expected = "Choose an answer by letter: ";
+                StringBuilder seen = new StringBuilder();
+                while (!seen.toString().endsWith(expected)) {
+                    seen.append((char) in.read());
+                }
+                assertEquals(2, server.getTableCount());
+            }
+            awaitNoTables(server);
+        }
+    }
+
+    /**
+     * Plays a one-player table, whose transcript does not depend on who goes first,
+     * sending the input in the given pieces.
+     */
+    private static String soloTranscript(GameTransport server, List<String> pieces) throws Exception {
+        try (server; Socket socket = connect(server)) {
+            OutputStream out = socket.getOutputStream();
+            for (String piece : pieces) {
+                out.write(piece.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(1);
+            }
+            return readAll(socket);
+        }
+    }
+
+    private static Socket connect(GameTransport server) throws IOException {
+        server.start(0, InetAddress.getLoopbackAddress());
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @Test
+    void tablesPlayConcurrentlyOverTcp() throws Exception {
+        playTables(new GameServer("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void disconnectEndsTable() throws Exception {
+        disconnectEndsTable(new GameServer("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void selectorTablesPlayConcurrentlyOverTcp() throws Exception {
+        playTables(new NioGameServer("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void selectorDisconnectEndsTable() throws Exception {
+        disconnectEndsTable(new NioGameServer("sample_game_CSV.csv"));
+    }
+
+    @Test
+    void selectorJoinsPartialLinesLikeBlockingServer() throws Exception {
+        GameData data = new CSVLoader().load("sample_game_CSV.csv");
+        String script = "0\nx\n1\n\nSolo\n" + tableScript(data).substring("2\nP1\nP2\n".length());
+
+        String expected = soloTranscript(new GameServer("sample_game_CSV.csv"), List.of(script));
+        assertTrue(expected.contains("Game Over!"));
+        assertTrue(expected.contains("Name cannot be empty."));
+
+        // lines split over several writes, several lines in one write, and CRLF line ends
+        List<String> pieces = new ArrayList<>();
+        String crlf = script.replace("\n", "\r\n");
+        for (int i = 0; i < crlf.length(); i += 7) {
+            pieces.add(crlf.substring(i, Math.min(crlf.length(), i + 7)));
+        }
+        assertEquals(expected, soloTranscript(new NioGameServer("sample_game_CSV.csv"), pieces));
+    }
+
+    @Test
+    void selectorDropsOverlongLines() throws Exception {
+        try (NioGameServer server = new NioGameServer("sample_game_CSV.csv");
+             Socket socket = connect(server)) {
+            socket.getOutputStream().write(new byte[NioGameServer.MAX_LINE_BYTES + 1]);
+            readAll(socket);
+            awaitNoTables(server);
+        }
+    }
+
+    @Test
+    void selectorLoadsTheBankOnlyOnStart() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        GameEngine engine = new GameEngine(() -> filename -> {
+            loads.incrementAndGet();
+            return new CSVLoader().load(filename);
+        });
+
+        try (NioGameServer server = new NioGameServer(engine, "sample_game_CSV.csv")) {
+            server.start(0, InetAddress.getLoopbackAddress());
+            for (int i = 0; i < 3; i++) {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                    socket.getOutputStream().write("1\nSolo\nend\n".getBytes(StandardCharsets.UTF_8));
+                    assertTrue(readAll(socket).contains("Game Over!"));
+                }
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Returns a player's score from the final scores at the end of a transcript.
+     */
+    private static int score(String transcript, String player) {
+        int start = transcript.lastIndexOf(player + ": ") + player.length() + 2;
+        return Integer.parseInt(transcript.substring(start, transcript.indexOf(" points", start)));
+    }
+}
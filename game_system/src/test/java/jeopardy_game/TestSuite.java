@@ -11,7 +11,11 @@ import org.junit.platform.suite.api.Suite;
         GameBoardTest.class,
         ParsingTest.class,
         ScoringTest.class,
-        ReportingTest.class
+        ReportingTest.class,
+        CachingTest.class,
+        HotReloadTest.class,
+        ValidationTest.class,
+        ServerTest.class
 })
 public class TestSuite {
 }
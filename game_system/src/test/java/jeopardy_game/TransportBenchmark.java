@@ -0,0 +1,221 @@
+package jeopardy_game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares GameServer and NioGameServer with many idle connections on localhost.
+ * A child JVM opens the connections and sets up a one-player table on each, so
+ * that every table waits for its first category; the server's heap, resident
+ * memory and threads are then measured per connection. After that, while all of
+ * them stay idle, a few clients play games on further connections, first some to
+ * warm up the server and then some to measure: the round-trip time of every
+ * command, from sending a line to receiving the next prompt, is reported as
+ * percentiles.
+ * The clients run in their own process so that their sockets count neither
+ * against the server's memory nor against its file descriptor limit.
+ * Not part of the test suite; after "mvn test-compile" run it with:
+ *
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; jeopardy_game.TransportBenchmark
+ *      blocking|selector [connections] [active clients]
+ */
+public class TransportBenchmark {
+    private static final String BANK = "sample_game_CSV.csv";
+    private static final int WARMUP_GAMES = 3;
+    private static final int MEASURED_GAMES = 5;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("client")) {
+            runClients(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            return;
+        }
+
+        String transport = args.length > 0 ? args[0] : "selector";
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int active = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        GameTransport server = transport.equals("blocking") ? new GameServer(BANK) : new NioGameServer(BANK);
+
+        try (server) {
+            server.start(0, InetAddress.getLoopbackAddress());
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+            long heapBefore = usedHeap();
+            long rssBefore = residentMemory();
+
+            Process clients = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), TransportBenchmark.class.getName(), "client",
+                    String.valueOf(server.getPort()), String.valueOf(connections), String.valueOf(active))
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            BufferedReader report = new BufferedReader(
+                    new InputStreamReader(clients.getInputStream(), StandardCharsets.UTF_8));
+
+            System.out.println(report.readLine());
+            while (server.getTableCount() < connections) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(1000);
+
+            int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+            long heap = usedHeap() - heapBefore;
+            long rss = residentMemory() - rssBefore;
+            System.out.printf("%s: %d idle tables, %d threads, %.1f KB heap and %.1f KB resident per connection%n",
+                    transport, connections, threads, heap / 1024.0 / connections, rss / 1024.0 / connections);
+
+            OutputStream go = clients.getOutputStream();
+            go.write('\n');
+            go.flush();
+            for (String line = report.readLine(); line != null; line = report.readLine()) {
+                System.out.println(transport + ": " + line);
+            }
+            clients.waitFor();
+        }
+    }
+
+    /**
+     * Opens the idle connections, waits for a line on standard input, then plays games
+     * on the given number of threads.
+     */
+    static void runClients(int port, int connections, int active) throws Exception {
+        GameData data = new CSVLoader().load(BANK);
+        List<String> actions = new ArrayList<>();
+        List<String> prompts = new ArrayList<>();
+        List<Category> categories = data.getCategories();
+        for (int c = 0; c < categories.size(); c++) {
+            List<Question> questions = categories.get(c).getQuestions();
+            for (int q = 0; q < questions.size(); q++) {
+                actions.add(String.valueOf(c + 1));
+                prompts.add("Choose a question by number: ");
+                actions.add(String.valueOf(q + 1));
+                prompts.add("Choose an answer by letter: ");
+                actions.add(questions.get(q).getCorrectAnswer());
+                prompts.add("Choose a category by number: ");
+            }
+        }
+        // the last answer ends the game instead of prompting for a category
+        prompts.set(prompts.size() - 1, "Thanks for Playing!");
+
+        long start = System.nanoTime();
+        List<Socket> sockets = new ArrayList<>();
+        byte[] setup = "1\nSolo\n".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < connections; i++) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true);
+            socket.getOutputStream().write(setup);
+            sockets.add(socket);
+        }
+        System.out.printf("%d connections opened in %d ms%n", connections, (System.nanoTime() - start) / 1_000_000);
+        System.out.flush();
+        System.in.read();
+
+        long[][] latencies = new long[active][];
+        List<Thread> players = new ArrayList<>();
+        for (int t = 0; t < active; t++) {
+            int table = t;
+            Thread player = new Thread(() -> latencies[table] = play(port, actions, prompts));
+            players.add(player);
+            player.start();
+        }
+        for (Thread player : players) {
+            player.join();
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%d commands from %d active clients: p50 %.0f us, p99 %.0f us, max %.0f us%n",
+                all.length, active, percentile(all, 50) / 1e3, percentile(all, 99) / 1e3, all[all.length - 1] / 1e3);
+
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Plays the warm-up games and then the measured games, each on a new connection.
+     *
+     * @return the round-trip times of the commands of the measured games
+     */
+    private static long[] play(int port, List<String> actions, List<String> prompts) {
+        long[] latencies = new long[MEASURED_GAMES * actions.size()];
+        for (int game = -WARMUP_GAMES; game < MEASURED_GAMES; game++) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setTcpNoDelay(true);
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                OutputStream out = socket.getOutputStream();
+                out.write("1\nSolo\n".getBytes(StandardCharsets.UTF_8));
+                readUntil(in, "Choose a category by number: ");
+
+                for (int i = 0; i < actions.size(); i++) {
+                    byte[] line = (actions.get(i) + "\n").getBytes(StandardCharsets.UTF_8);
+                    long sent = System.nanoTime();
+                    out.write(line);
+                    readUntil(in, prompts.get(i));
+                    if (game >= 0) {
+                        latencies[game * actions.size() + i] = System.nanoTime() - sent;
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Reads until the text read ends with the given ASCII text.
+     */
+    private static void readUntil(InputStream in, String text) throws IOException {
+        int matched = 0;
+        while (matched < text.length()) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Connection closed before: " + text);
+            }
+            if (b == text.charAt(matched)) {
+                matched++;
+            } else {
+                matched = b == text.charAt(0) ? 1 : 0;
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percent / 100.0) - 1)];
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns the resident set size of this process, or 0 where /proc is not available.
+     */
+    private static long residentMemory() throws IOException {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,121 @@
+package jeopardy_game;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ValidationTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    private List<String> describe(ValidationReport report) {
+        return report.getIssues().stream()
+                .map(issue -> issue.getLine() + ":" + issue.getRecord() + ":" + issue.getKind())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void sampleBanksAreValid() {
+        for (String bank : new String[] {"sample_game_CSV.csv", "sample_game_JSON.json", "sample_game_XML.xml"}) {
+            ValidationReport report = new BankValidator().validate(bank);
+            assertTrue(report.isValid(), report.toString());
+            assertEquals(25, report.getRecordCount());
+        }
+    }
+
+    @Test
+    void csvReportsEveryProblemWithItsLine(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, HEADER
+                + "Loops,100,Q1,a,b,c,d,A\n"
+                + "Loops,1OO,Q2,a,b,c,d,A\n"
+                + "Loops,200,\"Q3\nover two lines\",a,,c,d,E\n"
+                + "\n"
+                + "Loops,100,Q4,a,b,c,d,B\n"
+                + "Arrays,100,Q5\n"
+                + "Arrays,100,Q6,a,b,c,d,b\n");
+
+        ValidationReport report = new BankValidator().validate(file.toString());
+        assertEquals(6, report.getRecordCount());
+        assertEquals(List.of("3:2:NON_NUMERIC_VALUE", "4:3:MISSING_OPTION", "4:3:INVALID_ANSWER",
+                "7:4:DUPLICATE_QUESTION", "8:5:MALFORMED_RECORD"), describe(report));
+
+        ValidationIssue duplicate = report.getIssues(ValidationIssue.Kind.DUPLICATE_QUESTION).get(0);
+        assertEquals(file + ":7: record 4: Duplicate question for Loops at 100 points, first defined on line 2",
+                duplicate.toString());
+        assertFalse(report.isValid());
+    }
+
+    @Test
+    void parallelCheckMatchesSequentialCheck(@TempDir Path dir) throws Exception {
+        Path file = new BankGenerator(3000, 7).writeCSV(dir.resolve("large.csv"));
+        Files.writeString(file, "Loops,abc,\"Q\nx\",a,b,,d,Z\nCategory 1,100,dup,a,b,c,d,A\n",
+                java.nio.file.StandardOpenOption.APPEND);
+
+        ValidationReport sequential = new BankValidator(ForkJoinPool.commonPool(), Integer.MAX_VALUE)
+                .validate(file.toString());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ValidationReport parallel = new BankValidator(pool, 512).validate(file.toString());
+            assertEquals(sequential.toString(), parallel.toString());
+        } finally {
+            pool.shutdown();
+        }
+
+        // every (category, value) pair of the generated bank appears many times
+        assertEquals(3002, sequential.getRecordCount());
+        assertEquals(3000 - 35 + 1, sequential.getIssues(ValidationIssue.Kind.DUPLICATE_QUESTION).size());
+        assertEquals(1, sequential.getIssues(ValidationIssue.Kind.INVALID_ANSWER).size());
+        assertEquals(3002, sequential.getIssues(ValidationIssue.Kind.INVALID_ANSWER).get(0).getLine());
+    }
+
+    @Test
+    void jsonAndXmlReportProblemsAndSyntaxErrors(@TempDir Path dir) throws Exception {
+        Path json = dir.resolve("bank.json");
+        Files.writeString(json, "[\n"
+                + "{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q1\",\n"
+                + " \"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"A\"},\n"
+                + "{\"Category\": \"Loops\", \"Value\": \"lots\", \"Question\": \"Q2\",\n"
+                + " \"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\"}, \"CorrectAnswer\": \"D\"},\n"
+                + "{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q3\",\n"
+                + " \"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"A\"},\n"
+                + "{\"Category\": \"Loops\" \"Value\": 200}\n"
+                + "]");
+
+        ValidationReport report = new BankValidator().validate(json.toString());
+        assertEquals(List.of("4:2:NON_NUMERIC_VALUE", "4:2:MISSING_OPTION", "6:3:DUPLICATE_QUESTION",
+                "8:4:MALFORMED_RECORD"), describe(report));
+
+        Files.writeString(json, "[\n"
+                + "{\"Category\": \"Loops\", \"Value\": 100, \"Question\": \"Q1\",\n"
+                + " \"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": \"A\"},\n"
+                + "42\n"
+                + "]");
+        report = new BankValidator().validate(json.toString());
+        assertEquals(List.of("4:2:MALFORMED_RECORD"), describe(report));
+
+        Path xml = dir.resolve("bank.xml");
+        Files.writeString(xml, "<JeopardyQuestions>\n"
+                + "<QuestionItem><Category>Loops</Category><Value>100</Value><QuestionText>Q</QuestionText>"
+                + "<Options><OptionA>a</OptionA><OptionB>b</OptionB><OptionC>c</OptionC><OptionD>d</OptionD></Options>"
+                + "<CorrectAnswer>X</CorrectAnswer></QuestionItem>\n"
+                + "<QuestionItem><Category>Loops</Category><Value>100</Value></QuestionItem>\n"
+                + "</JeopardyQuestions>");
+
+        report = new BankValidator().validate(xml.toString());
+        assertEquals(List.of("2:1:INVALID_ANSWER", "3:2:MISSING_OPTION", "3:2:MISSING_OPTION", "3:2:MISSING_OPTION",
+                "3:2:MISSING_OPTION", "3:2:INVALID_ANSWER", "3:2:DUPLICATE_QUESTION"), describe(report));
+
+        assertThrows(IllegalArgumentException.class, () -> new BankValidator().validate("bank.jqb"));
+        assertThrows(RuntimeException.class, () -> new BankValidator().validate("nonexistent_file.csv"));
+    }
+}